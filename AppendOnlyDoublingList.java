@@ -0,0 +1,146 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A list laid out like {@link DoublingList} which can only be appended to, by any number of threads at once,
+ * without locks. With nothing ever inserted or removed, the nodes fill up strictly in order, so element
+ * {@code i} always lives in node {@code k = floor(log2(i + 1))} at offset {@code i + 1 - 2^k} (the same place
+ * {@link DoublingList} puts it) and never moves.
+ *
+ * {@link #add(Object)} reserves the next index with a single atomic increment, creates the node for it with a
+ * compare-and-set if no other thread has yet, then publishes the element into its slot. {@link #size()} is
+ * the length of the longest run of published elements from the start of the list, which every appending
+ * thread helps to advance. So readers always see a prefix of the list with no gaps, in reservation order, and
+ * {@link #get(int)} of any index below {@code size()} is wait-free. An element only becomes visible once every
+ * element reserved before it has been published too, which may be slightly after its own {@code add}
+ * returns.
+ *
+ * Every other modification throws an {@code UnsupportedOperationException}. Iterators are weakly
+ * consistent: they see at least the elements published when they were created.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element stored
+ */
+public class AppendOnlyDoublingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final AtomicReferenceArray<Object[]> nodes = new AtomicReferenceArray<>(DoublingNodes.MAX_NODES);
+    private final AtomicInteger reserved = new AtomicInteger(), published = new AtomicInteger();
+
+    /**
+     * Creates a new, empty {@code AppendOnlyDoublingList}.
+     */
+    public AppendOnlyDoublingList() {
+    }
+
+    /**
+     * Gets the number of elements published so far, all of which can be read with {@link #get(int)}.
+     *
+     * @return the list's size.
+     */
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    /**
+     * Gets the element at {@code index}. Wait-free.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    @Override
+    public E get(int index) {
+
+        int size = published.get();
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+
+        // Reading published after the element was, means the element is visible without a volatile read.
+        int node = DoublingNodes.nodeOf(index);
+        return (E) nodes.get(node)[DoublingNodes.offsetOf(index, node)];
+    }
+
+    /**
+     * Adds {@code element} to the end of the list. Lock-free: safe to call from any number of threads at once.
+     *
+     * @throws IllegalStateException if the list already holds {@code Integer.MAX_VALUE} elements
+     * @param element the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+        append(element);
+        return true;
+    }
+
+    /**
+     * Adds {@code element} to the end of the list, and returns the index it was given. Lock-free: safe to call
+     * from any number of threads at once. The element can be read at that index once {@link #size()} passes it.
+     *
+     * @throws IllegalStateException if the list already holds {@code Integer.MAX_VALUE} elements
+     * @param element the element to add
+     * @return the index of {@code element}
+     */
+    public int append(E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+
+        int index = reserved.getAndIncrement();
+
+        if(index < 0 || index == Integer.MAX_VALUE) {
+            reserved.set(Integer.MAX_VALUE);
+            throw new IllegalStateException("The list cannot grow past " + Integer.MAX_VALUE + " elements.");
+        }
+
+        int node = DoublingNodes.nodeOf(index);
+        Object[] values = nodes.get(node);
+
+        if(values == null) {
+            // Several threads may reach a new node at once; only the first array to be set is kept.
+            nodes.compareAndSet(node, null, new Object[DoublingNodes.capacity(node)]);
+            values = nodes.get(node);
+        }
+
+        SLOT.setVolatile(values, DoublingNodes.offsetOf(index, node), element);
+        advance();
+
+        return index;
+    }
+
+    /**
+     * Moves {@code published} past every published element directly after it. Any thread can finish the work
+     * another one started, so a thread which stalls between reserving and publishing its slot only holds up
+     * the visibility of later elements, never another thread's {@code add}.
+     */
+    private void advance() {
+
+        int size = published.get();
+
+        while(size < reserved.get() && isPublished(size)) {
+            published.compareAndSet(size, size + 1);
+            size = published.get();
+        }
+    }
+
+    /**
+     * Checks if the element at {@code index} has been written to its slot.
+     *
+     * @param index the index of a reserved slot
+     * @return {@code true} if the slot holds its element
+     */
+    private boolean isPublished(int index) {
+
+        int node = DoublingNodes.nodeOf(index);
+        Object[] values = nodes.get(node);
+
+        return values != null && SLOT.getVolatile(values, DoublingNodes.offsetOf(index, node)) != null;
+    }
+
+}
@@ -0,0 +1,143 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for {@link AppendOnlyDoublingList}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class AppendOnlyDoublingListTest {
+
+    private static final int PRODUCERS = 8, READERS = 4, PER_PRODUCER = 50000;
+
+    public AppendOnlyDoublingList<Integer> list;
+
+    public AppendOnlyDoublingListTest() { }
+
+    @BeforeEach
+    public void setUp() {
+        list = new AppendOnlyDoublingList<Integer>();
+    }
+
+    /**
+     * Tests appending and reading from a single thread, and that the list can't be modified in any other way.
+     */
+    @Test
+    @DisplayName("Single-threaded append and get")
+    public void testAppend() {
+
+        for(int i = 0; i < 1000; ++i) assertEquals(i, list.append(i));
+
+        assertEquals(1000, list.size());
+        for(int i = 0; i < 1000; ++i) assertEquals(i, list.get(i));
+
+        boolean outOfBounds = false;
+
+        try {
+            list.get(1000);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+
+        assertTrue(outOfBounds);
+
+        boolean unsupported = false;
+
+        try {
+            list.remove(0);
+        } catch (UnsupportedOperationException e) {
+            unsupported = true;
+        }
+
+        assertTrue(unsupported);
+        unsupported = false;
+
+        try {
+            list.add(0, 1);
+        } catch (UnsupportedOperationException e) {
+            unsupported = true;
+        }
+
+        assertTrue(unsupported);
+    }
+
+    /**
+     * Appends from many producers while readers check that the published prefix never has a gap and never
+     * changes once read. Afterwards, every element must be present exactly once, with each producer's
+     * elements in the order it added them.
+     */
+    @Test
+    @DisplayName("Concurrent producers and readers")
+    public void testConcurrentAppends() throws InterruptedException {
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Thread[] producers = new Thread[PRODUCERS], readers = new Thread[READERS];
+
+        for(int t = 0; t < PRODUCERS; ++t) {
+            int producer = t;
+            producers[t] = new Thread(() -> {
+                try {
+                    for(int i = 0; i < PER_PRODUCER; ++i) list.add(producer * PER_PRODUCER + i);
+                } catch(Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+
+        for(int t = 0; t < READERS; ++t) {
+            readers[t] = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int lastSize = 0;
+
+                    while(producing.get()) {
+                        // The size never shrinks, and every index below it holds an element which stays put.
+                        int size = list.size();
+                        assertTrue(size >= lastSize);
+                        lastSize = size;
+
+                        if(size > 0) {
+                            int index = random.nextInt(size);
+                            Integer element = list.get(index);
+                            assertNotNull(element);
+                            assertEquals(element, list.get(index));
+                            assertNotNull(list.get(size - 1));
+                        }
+                    }
+                } catch(Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+
+        for(Thread reader : readers) reader.start();
+        for(Thread producer : producers) producer.start();
+        for(Thread producer : producers) producer.join();
+
+        producing.set(false);
+        for(Thread reader : readers) reader.join();
+
+        assertNull(failure.get());
+        assertEquals(PRODUCERS * PER_PRODUCER, list.size());
+
+        boolean[] seen = new boolean[PRODUCERS * PER_PRODUCER];
+        int[] lastFrom = new int[PRODUCERS];
+
+        for(int element : list) {
+            assertFalse(seen[element]);
+            seen[element] = true;
+
+            int producer = element / PER_PRODUCER;
+            assertTrue(element % PER_PRODUCER >= lastFrom[producer]);
+            lastFrom[producer] = element % PER_PRODUCER;
+        }
+    }
+
+}
@@ -0,0 +1,806 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe list with the same node layout as {@link DoublingList}. Elements are placed and compacted
+ * exactly as {@link DoublingList} would place them, but every node has its own {@link StampedLock}, so
+ * threads working on different parts of the list don't wait for each other. It isn't a {@code DoublingList}
+ * subtype, and always uses the default doubling layout (see {@link GrowthPolicy}).
+ *
+ * An operation on index {@code i} only write locks the nodes whose arrays actually change: the node holding
+ * {@code i}, plus the range of nodes a {@code leftShift} or {@code rightShift} cascade passes through. The
+ * nodes before them just have to keep their sizes while {@code i} is being located, so they're read
+ * optimistically and validated once the write locks are held. So {@code set}s, {@code add}s and
+ * {@code remove}s which touch different nodes don't wait for each other, and {@code get} takes no locks at
+ * all unless a writer gets in its way: it reads the node sizes and the element optimistically, then checks
+ * that none of the nodes it read from were written to in the meantime. Adding or dropping whole nodes
+ * (growing, compacting and {@link #clear()}) locks every node.
+ *
+ * Single operations are atomic. Bulk operations inherited from {@link AbstractList} (such as
+ * {@code addAll}) are not, and iterators are weakly consistent: they read by index, never throw
+ * {@code ConcurrentModificationException}, and may or may not see changes made while they're in use. An
+ * iterator reads each element before {@code hasNext()} reports it, so one whose list shrinks under it just
+ * ends early, rather than throwing.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element stored
+ */
+public class ConcurrentDoublingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int OPTIMISTIC_ATTEMPTS = 4;
+
+    // Results of place(), other than the node write locks have to start from.
+    private static final int DONE = -1, GROW = -2;
+
+    // Passed as the index to insert() to add at the end of the list.
+    private static final int END = -1;
+
+    // locks[k] guards values[k] and sizes[k]. nodes only changes while every lock is write locked.
+    private final StampedLock[] locks = new StampedLock[DoublingNodes.MAX_NODES];
+    private final Object[][] values = new Object[DoublingNodes.MAX_NODES][];
+    private final int[] sizes = new int[DoublingNodes.MAX_NODES];
+    private final AtomicInteger size = new AtomicInteger();
+    private int nodes = 0;
+
+    // Moves elements for the shifts and compaction in DoublingNodes. The nodes involved must be write locked.
+    private final DoublingNodes.Mover mover = (fromNode, fromOffset, toNode, toOffset, count) ->
+        System.arraycopy(values[fromNode], fromOffset, values[toNode], toOffset, count);
+
+    /**
+     * Creates a new, empty {@code ConcurrentDoublingList}.
+     */
+    public ConcurrentDoublingList() {
+        for(int i = 0; i < DoublingNodes.MAX_NODES; ++i) locks[i] = new StampedLock();
+    }
+
+    /**
+     * Gets the size of the list. While other threads are adding or removing elements, this is only a snapshot.
+     *
+     * @return the list's size.
+     */
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the element at {@code index}. Tries a few times without locking, then falls back to read locks.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    @Override
+    public E get(int index) {
+
+        if(index < 0) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size() + ".");
+
+        long[] stamps = new long[DoublingNodes.MAX_NODES];
+
+        for(int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; ++attempt) {
+
+            // Every read here may race with a writer, so each is checked to be in range rather than trusted.
+            // Only once every stamp still validates are the values known to be consistent.
+
+            stamps[0] = locks[0].tryOptimisticRead();
+            int count = nodes, node = 0, remaining = index;
+            boolean valid = stamps[0] != 0;
+            Object element = null;
+
+            while(valid && node < count) {
+                int nodeSize = sizes[node];
+
+                if(remaining < nodeSize) {
+                    Object[] array = values[node];
+                    if(array != null && remaining < array.length) element = array[remaining];
+                    break;
+                }
+
+                remaining -= nodeSize;
+                if(++node < count) valid = (stamps[node] = locks[node].tryOptimisticRead()) != 0;
+            }
+
+            int last = Math.max(0, Math.min(node, count - 1));
+            for(int i = 0; valid && i <= last; ++i) valid = locks[i].validate(stamps[i]);
+
+            if(valid && element != null) return (E) element;
+            if(valid && node == count) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + (index - remaining) + ".");
+        }
+
+        Walk walk = new Walk(DoublingNodes.MAX_NODES, false);
+
+        try {
+            walk.lock(index);
+
+            if(walk.node == nodes) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + index + ".");
+            return (E) values[walk.node][walk.offset];
+        } finally {
+            walk.release();
+        }
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}. Only write locks the node holding it.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to replace
+     * @param element the element to store at {@code index}
+     * @return the element previously at {@code index}
+     */
+    @Override
+    public E set(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+        if(index < 0) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size() + ".");
+
+        int writeFrom = guess(index), attempt = 0;
+
+        while(true) {
+            Walk walk = new Walk(writeFrom, attempt++ < OPTIMISTIC_ATTEMPTS);
+
+            try {
+                if(!walk.lock(index)) continue;
+
+                if(walk.node == nodes) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + index + ".");
+
+                if(walk.writable(walk.node)) {
+                    E previous = (E) values[walk.node][walk.offset];
+                    values[walk.node][walk.offset] = element;
+                    return previous;
+                }
+
+                writeFrom = walk.node;
+            } finally {
+                walk.release();
+            }
+        }
+    }
+
+    /**
+     * Adds the given element {@code element} to the end of the list, wherever the end is once the last nodes are
+     * locked.
+     *
+     * @param element the element to add to the list
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+
+        insert(END, element);
+        return true;
+    }
+
+    /**
+     * Adds the given element {@code element} to the list at index {@code index}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds {@code 0} to {@code size()}
+     * @param index the index to add {@code element} at
+     * @param element the element to add to the list at {@code index}
+     */
+    @Override
+    public void add(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+        if(index < 0) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size() + ".");
+
+        insert(index, element);
+    }
+
+    /**
+     * Locks the nodes {@code element} is going to be placed in and places it, retrying with more nodes write
+     * locked (or after growing the list) until it fits.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is greater than the size of the list
+     * @param index the index to add {@code element} at, or {@code END}
+     * @param element the element to add
+     */
+    private void insert(int index, E element) {
+
+        int writeFrom = guess(index), attempt = 0;
+
+        while(true) {
+            Walk walk = new Walk(writeFrom, attempt++ < OPTIMISTIC_ATTEMPTS);
+            int result;
+
+            try {
+                if(!walk.lock(index)) continue;
+                result = place(walk, element);
+                if(result == DONE) size.incrementAndGet();
+            } finally {
+                walk.release();
+            }
+
+            if(result == DONE) return;
+
+            if(result == GROW) {
+                grow();
+                writeFrom = guess(index);
+            } else {
+                // A shift has to move elements in nodes which weren't write locked: try again, write locking
+                // from the first of them.
+                writeFrom = result;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at {@code index} from the list. Only write locks the node holding it,
+     * unless the list needs compacting afterwards.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index where the removal should occur
+     * @return the removed element
+     */
+    @Override
+    public E remove(int index) {
+
+        if(index < 0) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size() + ".");
+
+        int writeFrom = guess(index), attempt = 0;
+
+        while(true) {
+            Walk walk = new Walk(writeFrom, attempt++ < OPTIMISTIC_ATTEMPTS);
+            E removed = null;
+            boolean compact = false;
+
+            try {
+                if(!walk.lock(index)) continue;
+
+                int node = walk.node, offset = walk.offset;
+
+                if(node == nodes) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + index + ".");
+
+                if(walk.writable(node)) {
+                    Object[] array = values[node];
+                    removed = (E) array[offset];
+
+                    System.arraycopy(array, offset + 1, array, offset, sizes[node] - offset - 1);
+                    array[--sizes[node]] = null;
+
+                    int remaining = size.decrementAndGet();
+                    compact = remaining == 0 || DoublingNodes.shouldCompact(remaining, nodes);
+                } else {
+                    writeFrom = node;
+                }
+            } finally {
+                walk.release();
+            }
+
+            if(removed != null) {
+                // List has too much empty space spread across nodes, so compact this list.
+                if(compact) compact();
+                return removed;
+            }
+        }
+    }
+
+    /**
+     * Removes every element from the list, dropping all of its nodes at once.
+     */
+    @Override
+    public void clear() {
+
+        long[] stamps = lockAll();
+
+        try {
+            dropNodes(0);
+            size.set(0);
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Places {@code element} at the index located by {@code walk}, following the same rules as
+     * {@link DoublingList#add(int, Object)}. Write locks any successors a right shift needs on the way.
+     *
+     * @param walk the locks held, and the located node and offset (the node is {@code nodes} to add at the end)
+     * @param element the element to add
+     * @return {@code DONE} if the element was added, {@code GROW} if every node is full, or otherwise the node
+     * write locks need to start from (nothing is changed in the last two cases)
+     */
+    private int place(Walk walk, E element) {
+
+        int node = walk.node, offset = walk.offset;
+
+        if(node == nodes) {
+
+            int last = nodes - 1;
+            while(last >= 0 && sizes[last] == 0) last--;
+
+            if(last >= 0 && !DoublingNodes.isFull(sizes, last)) {
+                if(!walk.writable(last)) return last;
+                values[last][sizes[last]++] = element;
+            } else if(DoublingNodes.hasSpaceBefore(sizes, last)) {
+                // Fill the gap in a predecessor so the new element can go at the end of last.
+                int from = DoublingNodes.rightmostSpaceBefore(sizes, last);
+                if(!walk.writable(from)) return from;
+                DoublingNodes.leftShift(sizes, last, sizes[last] - 1, mover);
+                values[last][sizes[last]++] = element;
+            } else if(last + 1 < nodes) {
+                // Else, an empty successor must exist.
+                if(!walk.writable(last + 1)) return last + 1;
+                values[last + 1][sizes[last + 1]++] = element;
+            } else {
+                return GROW;
+            }
+
+            return DONE;
+        }
+
+        if(!DoublingNodes.isFull(sizes, node)) {
+            if(!walk.writable(node)) return node;
+
+            System.arraycopy(values[node], offset, values[node], offset + 1, sizes[node] - offset);
+            values[node][offset] = element;
+            sizes[node]++;
+        } else if(DoublingNodes.hasSpaceBefore(sizes, node)) {
+            int from = DoublingNodes.rightmostSpaceBefore(sizes, node);
+            if(!walk.writable(from)) return from;
+
+            if(offset == 0 && !DoublingNodes.isFull(sizes, node - 1)) {
+                // The predecessor sits directly before index, so nothing needs to move.
+                values[node - 1][sizes[node - 1]++] = element;
+            } else {
+                // The element lands where index - 1 was before the shift, which may be the end of the node before.
+                int target = offset > 0 ? node : node - 1, targetOffset = offset > 0 ? offset - 1 : sizes[node - 1] - 1;
+                DoublingNodes.leftShift(sizes, target, targetOffset, mover);
+                values[target][targetOffset] = element;
+                sizes[target]++;
+            }
+        } else {
+            if(!walk.writable(node)) return node;
+
+            // Must be a successor node with space: lock the cascade up to it.
+            int space = node + 1;
+            while(space < nodes) {
+                walk.extend(space);
+                if(!DoublingNodes.isFull(sizes, space)) break;
+                space++;
+            }
+
+            if(space == nodes) return GROW;
+
+            DoublingNodes.rightShift(sizes, node, offset, mover);
+            values[node][offset] = element;
+            sizes[node]++;
+        }
+
+        return DONE;
+    }
+
+    /**
+     * Appends a new node if every node is still full once all of them are locked.
+     */
+    private void grow() {
+
+        long[] stamps = lockAll();
+
+        try {
+            if(size.get() == DoublingNodes.totalCapacity(nodes)) {
+                if(nodes == DoublingNodes.MAX_NODES) throw new IllegalStateException("The list cannot grow past " + size.get() + " elements.");
+
+                values[nodes] = new Object[DoublingNodes.capacity(nodes)];
+                sizes[nodes] = 0;
+                nodes++;
+            }
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Packs the elements towards the front in place, then drops all but one of the nodes left empty, if the list
+     * still needs it once all of them are locked. Matches {@link DoublingList}'s compaction.
+     */
+    private void compact() {
+
+        long[] stamps = lockAll();
+
+        try {
+            int count = size.get();
+
+            if(count == 0) {
+                dropNodes(0);
+            } else if(DoublingNodes.shouldCompact(count, nodes)) {
+
+                int kept = DoublingNodes.compact(sizes, nodes, count, mover);
+
+                // Clear the slots packing left behind, so that the removed elements can be collected.
+                for(int i = 0; i < kept; ++i) Arrays.fill(values[i], sizes[i], DoublingNodes.capacity(i), null);
+
+                dropNodes(kept);
+            }
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Drops every node from {@code first} onwards. Every node must be write locked.
+     *
+     * @param first the index of the first node to drop
+     */
+    private void dropNodes(int first) {
+        Arrays.fill(values, first, nodes, null);
+        Arrays.fill(sizes, first, nodes, 0);
+        nodes = first;
+    }
+
+    /**
+     * Guesses which node holds {@code index}, without locking. Used to choose where write locks start; a wrong
+     * guess only costs a retry.
+     *
+     * @param index the logical index
+     * @return the node which probably holds {@code index}
+     */
+    private int guess(int index) {
+
+        int count = nodes, node = 0;
+        if(index == END) return Math.max(0, count - 2);
+
+        while(node < count - 1 && index >= sizes[node]) index -= sizes[node++];
+
+        return node;
+    }
+
+    /**
+     * Write locks every node slot, in order.
+     *
+     * @return the stamps to pass to {@link #unlockAll(long[])}
+     */
+    private long[] lockAll() {
+
+        long[] stamps = new long[DoublingNodes.MAX_NODES];
+        for(int i = 0; i < DoublingNodes.MAX_NODES; ++i) stamps[i] = locks[i].writeLock();
+
+        return stamps;
+    }
+
+    /**
+     * Releases the locks taken by {@link #lockAll()}.
+     *
+     * @param stamps the stamps returned by {@link #lockAll()}
+     */
+    private void unlockAll(long[] stamps) {
+        for(int i = DoublingNodes.MAX_NODES - 1; i >= 0; --i) locks[i].unlockWrite(stamps[i]);
+    }
+
+    /**
+     * Gets a weakly consistent iterator over the list. See {@link #listIterator(int)}.
+     *
+     * @return an iterator over the list, starting at the first element
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Cursor(0);
+    }
+
+    /**
+     * Gets a weakly consistent list iterator over the list, starting at {@code index}. It moves by index:
+     * {@code hasNext()} and {@code hasPrevious()} read the element they would return, and report {@code false}
+     * if another thread has since removed enough elements that the index is gone. {@code remove}, {@code set}
+     * and {@code add} act at the iterator's index, which other threads' changes may have moved another element
+     * to.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds {@code 0} to {@code size()}
+     * @param index the index of the first element {@code next()} returns
+     * @return a list iterator over the list
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+
+        if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size() + ".");
+
+        return new Cursor(index);
+    }
+
+    /**
+     * A list iterator which reads by index, fetching each element ahead of time so that a concurrent removal
+     * ends the iteration instead of failing it.
+     *
+     * @author Jackson Eshbaugh
+     * @version 10/18/2026
+     */
+    private final class Cursor implements ListIterator<E> {
+
+        // cursor is the index next() reads from. fetched holds the element at cursor (or cursor - 1, when
+        // fetchedNext is false) once hasNext() (or hasPrevious()) has read it, and null otherwise.
+        private int cursor, lastReturned = -1;
+        private E fetched = null;
+        private boolean fetchedNext = false;
+
+        /**
+         * Creates a cursor starting at {@code index}.
+         *
+         * @param index the index of the first element {@code next()} returns
+         */
+        private Cursor(int index) {
+            cursor = index;
+        }
+
+        /**
+         * Checks if there's an element at the cursor, reading it if so.
+         *
+         * @return {@code true} if {@link #next()} has an element to return
+         */
+        @Override
+        public boolean hasNext() {
+            return fetch(cursor, true);
+        }
+
+        /**
+         * Gets the element at the cursor, and moves past it.
+         *
+         * @throws NoSuchElementException when there is no element at the cursor
+         * @return the element
+         */
+        @Override
+        public E next() {
+
+            if(!hasNext()) throw new NoSuchElementException();
+
+            E element = fetched;
+            fetched = null;
+            lastReturned = cursor++;
+
+            return element;
+        }
+
+        /**
+         * Checks if there's an element before the cursor, reading it if so.
+         *
+         * @return {@code true} if {@link #previous()} has an element to return
+         */
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0 && fetch(cursor - 1, false);
+        }
+
+        /**
+         * Gets the element before the cursor, and moves back over it.
+         *
+         * @throws NoSuchElementException when there is no element before the cursor
+         * @return the element
+         */
+        @Override
+        public E previous() {
+
+            if(!hasPrevious()) throw new NoSuchElementException();
+
+            E element = fetched;
+            fetched = null;
+            lastReturned = --cursor;
+
+            return element;
+        }
+
+        /**
+         * Reads the element at {@code index} into {@code fetched}, unless it's already there.
+         *
+         * @param index the index to read
+         * @param next {@code true} if the element is for {@code next()}, {@code false} for {@code previous()}
+         * @return {@code true} if there is an element at {@code index}
+         */
+        private boolean fetch(int index, boolean next) {
+
+            if(fetched != null && fetchedNext == next) return true;
+
+            try {
+                fetched = get(index);
+                fetchedNext = next;
+                return true;
+            } catch(IndexOutOfBoundsException e) {
+                // Another thread removed the element (or never added it).
+                fetched = null;
+                return false;
+            }
+        }
+
+        /**
+         * Gets the index {@link #next()} reads from.
+         *
+         * @return the cursor
+         */
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        /**
+         * Gets the index {@link #previous()} reads from.
+         *
+         * @return the cursor, less one
+         */
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Removes the element at the index last returned by {@link #next()} or {@link #previous()}.
+         *
+         * @throws IllegalStateException if neither has been called since the last {@code remove} or {@code add}
+         */
+        @Override
+        public void remove() {
+
+            if(lastReturned < 0) throw new IllegalStateException();
+
+            ConcurrentDoublingList.this.remove(lastReturned);
+            if(lastReturned < cursor) cursor--;
+
+            lastReturned = -1;
+            fetched = null;
+        }
+
+        /**
+         * Replaces the element at the index last returned by {@link #next()} or {@link #previous()}.
+         *
+         * @throws IllegalStateException if neither has been called since the last {@code remove} or {@code add}
+         * @param element the element to store
+         */
+        @Override
+        public void set(E element) {
+
+            if(lastReturned < 0) throw new IllegalStateException();
+
+            ConcurrentDoublingList.this.set(lastReturned, element);
+        }
+
+        /**
+         * Adds {@code element} at the cursor, which then moves past it.
+         *
+         * @param element the element to add
+         */
+        @Override
+        public void add(E element) {
+
+            ConcurrentDoublingList.this.add(cursor++, element);
+
+            lastReturned = -1;
+            fetched = null;
+        }
+
+    }
+
+    /**
+     * The locks held by a single operation. Nodes from {@code writeFrom} onwards are write locked, always in
+     * order from the first one, so operations can't deadlock. The nodes before them only have to keep their
+     * sizes while the index is located: by default they're read optimistically and validated once the write
+     * locks are held (after which no shift can reach the locked nodes without waiting for them), and after
+     * repeated failures they're read locked instead.
+     *
+     * @author Jackson Eshbaugh
+     * @version 10/18/2026
+     */
+    private final class Walk {
+
+        private final long[] stamps = new long[DoublingNodes.MAX_NODES];
+        private final int writeFrom;
+        private final boolean optimistic;
+        private int held = 0;
+
+        // Set by lock(): the node holding the index (nodes if the index is one past the end), and the offset in it.
+        int node, offset;
+
+        /**
+         * Creates a walk which write locks nodes from {@code writeFrom} onwards.
+         *
+         * @param writeFrom the first node to write lock
+         * @param optimistic {@code true} to read the nodes before {@code writeFrom} optimistically, {@code false}
+         * to read lock them
+         */
+        Walk(int writeFrom, boolean optimistic) {
+            this.writeFrom = writeFrom;
+            this.optimistic = optimistic;
+        }
+
+        /**
+         * Locks nodes in order until the one holding {@code index} is locked, and sets {@code node} and
+         * {@code offset}. If {@code index} is one past the last element (or {@code END}), every node is locked
+         * and {@code node} is set to {@code nodes}.
+         *
+         * @throws IndexOutOfBoundsException if {@code index} is more than one past the last element
+         * @param index the logical index to locate, or {@code END}
+         * @return {@code false} if an optimistic read was invalidated by a writer, so the operation must release
+         * this walk and try again
+         */
+        boolean lock(int index) {
+
+            int remaining = index;
+
+            // The first slot is locked even in an empty list, since nodes can't change while it's held. Until
+            // validate() succeeds, the sizes read here may be inconsistent, so nothing is trusted before then.
+            acquire(0);
+
+            for(node = 0; node < nodes; ++node) {
+                if(node > 0) acquire(node);
+
+                if(index != END && remaining < sizes[node]) {
+                    offset = remaining;
+                    return validate();
+                }
+
+                remaining -= sizes[node];
+            }
+
+            offset = 0;
+
+            if(!validate()) return false;
+            if(remaining > 0) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + (index - remaining) + ".");
+
+            return true;
+        }
+
+        /**
+         * Write locks node {@code next}, which must be the node after the last one locked.
+         *
+         * @param next the node to lock
+         */
+        void extend(int next) {
+            stamps[next] = locks[next].writeLock();
+            held = next + 1;
+        }
+
+        /**
+         * Checks if node {@code node} is write locked by this walk.
+         *
+         * @param node the node to check
+         * @return {@code true} if the node's elements can be changed
+         */
+        boolean writable(int node) {
+            return node >= writeFrom && node < held;
+        }
+
+        /**
+         * Releases every lock held, last node first.
+         */
+        void release() {
+
+            for(int i = held - 1; i >= 0; --i)
+                if(i >= writeFrom || !optimistic) locks[i].unlock(stamps[i]);
+
+            held = 0;
+        }
+
+        /**
+         * Locks (or optimistically reads) node {@code next} in the mode {@code writeFrom} calls for.
+         *
+         * @param next the node to lock
+         */
+        private void acquire(int next) {
+
+            if(next >= writeFrom) stamps[next] = locks[next].writeLock();
+            else stamps[next] = optimistic ? locks[next].tryOptimisticRead() : locks[next].readLock();
+
+            held = next + 1;
+        }
+
+        /**
+         * Checks that no optimistically read node has been written to since it was read.
+         *
+         * @return {@code true} if the sizes read are consistent
+         */
+        private boolean validate() {
+
+            if(!optimistic) return true;
+
+            for(int i = 0; i < Math.min(writeFrom, held); ++i)
+                if(stamps[i] == 0 || !locks[i].validate(stamps[i])) return false;
+
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for {@link ConcurrentDoublingList}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class ConcurrentDoublingListTest {
+
+    private static final int THREADS = 8, PER_THREAD = 20000;
+
+    public ConcurrentDoublingList<Integer> list;
+
+    public ConcurrentDoublingListTest() { }
+
+    @BeforeEach
+    public void setUp() {
+        list = new ConcurrentDoublingList<Integer>();
+    }
+
+    /**
+     * Tests {@link ConcurrentDoublingList#add(int, Object)}, {@link ConcurrentDoublingList#remove(int)},
+     * {@link ConcurrentDoublingList#get(int)} and {@link ConcurrentDoublingList#set(int, Object)} from a single
+     * thread, against a {@link DoublingList}, over a long run of random operations which grows and compacts the
+     * list many times.
+     */
+    @Test
+    @DisplayName("Single-threaded operations")
+    public void testMatchesDoublingList() {
+
+        DoublingList<Integer> expected = new DoublingList<Integer>();
+        Random random = new Random(42);
+
+        for(int i = 0; i < 20000; ++i) {
+            int operation = random.nextInt(10);
+
+            if(expected.isEmpty() || operation < 5) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else if(operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(index, -i));
+            }
+
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, list);
+
+        list.clear();
+        assertEquals(0, list.size());
+        list.add(7);
+        assertEquals(7, list.get(0));
+
+        boolean outOfBounds = false;
+
+        try {
+            list.get(1);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+
+        assertTrue(outOfBounds);
+    }
+
+    /**
+     * Tests that concurrent inserts at random indices and concurrent reads lose and duplicate nothing, then that
+     * concurrent removals return every element exactly once.
+     */
+    @Test
+    @DisplayName("Concurrent adds, reads and removes")
+    public void testConcurrentAddsAndRemoves() throws InterruptedException {
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        run(failure, thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for(int i = 0; i < PER_THREAD; ++i) {
+                list.add(random.nextInt(list.size() + 1), thread * PER_THREAD + i);
+
+                // The list only grows here, so every index below an observed size must be readable.
+                int size = list.size();
+                assertNotNull(list.get(random.nextInt(size)));
+            }
+        });
+
+        assertNull(failure.get());
+        assertEquals(THREADS * PER_THREAD, list.size());
+
+        List<Integer> sorted = new ArrayList<Integer>(list);
+        Collections.sort(sorted);
+        for(int i = 0; i < THREADS * PER_THREAD; ++i) assertEquals(i, sorted.get(i));
+
+        List<Integer> removed = Collections.synchronizedList(new ArrayList<Integer>());
+
+        run(failure, thread -> {
+            for(int i = 0; i < PER_THREAD; ++i) removed.add(list.remove(0));
+        });
+
+        assertNull(failure.get());
+        assertEquals(0, list.size());
+
+        Collections.sort(removed);
+        assertEquals(sorted, removed);
+    }
+
+    /**
+     * Tests concurrent {@code set}s and appends mixed with reads: every element read must be one which was
+     * actually stored.
+     */
+    @Test
+    @DisplayName("Concurrent sets and appends")
+    public void testConcurrentSets() throws InterruptedException {
+
+        for(int i = 0; i < 1000; ++i) list.add(i);
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        run(failure, thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for(int i = 0; i < PER_THREAD; ++i) {
+                int index = random.nextInt(1000);
+
+                if(thread % 2 == 0) {
+                    list.set(index, index + 1000 * (i % 3));
+                } else if(i % 100 == 0) {
+                    list.add(-1);
+                } else {
+                    int element = list.get(index);
+                    assertEquals(index, element % 1000);
+                }
+            }
+        });
+
+        assertNull(failure.get());
+        assertEquals(1000 + THREADS / 2 * PER_THREAD / 100, list.size());
+    }
+
+    /**
+     * Iterates over the list on half the threads while the other half remove from it. Iteration must end
+     * cleanly however far the list shrinks under it, and since removals only ever move elements towards the
+     * front, every iteration must see the elements in increasing order.
+     */
+    @Test
+    @DisplayName("Iteration during concurrent removes")
+    public void testIterationDuringRemoves() throws InterruptedException {
+
+        for(int i = 0; i < PER_THREAD; ++i) list.add(i);
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        run(failure, thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            if(thread % 2 == 0) {
+                while(!list.isEmpty()) {
+                    try {
+                        list.remove(random.nextInt(Math.max(1, list.size())));
+                    } catch(IndexOutOfBoundsException e) {
+                        // Another remover shrank the list between size() and remove().
+                    }
+                }
+            } else {
+                // Stop early if a remover failed, rather than waiting forever for the list to empty.
+                while(!list.isEmpty() && failure.get() == null) {
+                    int last = -1;
+
+                    for(int element : list) {
+                        assertTrue(element > last);
+                        last = element;
+                    }
+                }
+            }
+        });
+
+        assertNull(failure.get());
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    /**
+     * Runs {@code task} on {@code THREADS} threads at once, recording the first failure in {@code failure}.
+     *
+     * @param failure where to record the first exception or assertion failure thrown
+     * @param task the task to run, given the thread's number
+     */
+    private static void run(AtomicReference<Throwable> failure, ThreadTask task) throws InterruptedException {
+
+        Thread[] threads = new Thread[THREADS];
+
+        for(int t = 0; t < THREADS; ++t) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    task.run(thread);
+                } catch(Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+
+        for(Thread thread : threads) thread.join();
+    }
+
+    /**
+     * A task run by {@link #run(AtomicReference, ThreadTask)} on each thread.
+     */
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+}
@@ -0,0 +1,712 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A list laid out like {@link DoublingList} which is also a {@link Deque}: elements can be added and removed at
+ * either end in amortized {@code O(1)}, and read or replaced at any index in {@code O(1)}.
+ *
+ * The nodes are laid end to end as one circular buffer, with node {@code k} holding {@code 2^k} slots, so
+ * with {@code n} nodes there are {@code 2^n - 1} slots, and slot {@code s} is in node
+ * {@code floor(log2(s + 1))} at offset {@code s + 1 - 2^node}. The first element is at slot {@code head} and
+ * the rest follow it, wrapping around from the last slot to the first, so adding or removing at either end
+ * only moves {@code head} or the end of the run, instead of shifting every node as {@link DoublingList}'s
+ * {@code add(0, e)} does. When every slot is full a node twice the size of the last is added, and only the
+ * part of the run which had wrapped around (or the part before it, whichever is shorter) is moved to keep
+ * the elements in order; the existing nodes are never copied. When the list drops to a quarter of its
+ * capacity, it is packed into as few nodes as leave it half full.
+ *
+ * Adding or removing in the middle shifts the elements on the side of the index nearer its end, so takes
+ * {@code O(min(index, size - index))}. Null elements are not permitted.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element stored
+ */
+public class DoublingDeque<E> extends AbstractList<E> implements Deque<E>, RandomAccess {
+
+    private final Object[][] values = new Object[DoublingNodes.MAX_NODES][];
+    private int nodes = 0, capacity = 0, head = 0, size = 0;
+
+    /**
+     * Creates a new, empty {@code DoublingDeque}.
+     */
+    public DoublingDeque() {
+    }
+
+    /**
+     * Gets the size of the list.
+     *
+     * @return the list's size.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index, size);
+        return read(slot(index));
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to replace
+     * @param element the element to store
+     * @return the element previously at {@code index}
+     */
+    @Override
+    public E set(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+        checkIndex(index, size);
+
+        int slot = slot(index);
+        E previous = read(slot);
+        write(slot, element);
+
+        return previous;
+    }
+
+    /**
+     * Adds {@code element} at {@code index}, shifting the elements between it and the nearer end of the list
+     * over by one.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size()})
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param index the index to add {@code element} at
+     * @param element the element to add
+     */
+    @Override
+    public void add(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+        checkIndex(index, size + 1);
+
+        if(size == capacity) grow();
+
+        if(index < size / 2) {
+            // Move the elements before index back a slot, into the one before head.
+            head = head == 0 ? capacity - 1 : head - 1;
+            for(int i = 0; i < index; ++i) write(slot(i), read(slot(i + 1)));
+        } else {
+            for(int i = size; i > index; --i) write(slot(i), read(slot(i - 1)));
+        }
+
+        write(slot(index), element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at {@code index}, shifting the elements between it and the nearer end of the list
+     * over by one.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to remove
+     * @return the removed element
+     */
+    @Override
+    public E remove(int index) {
+
+        checkIndex(index, size);
+
+        E removed = read(slot(index));
+
+        if(index < size / 2) {
+            for(int i = index; i > 0; --i) write(slot(i), read(slot(i - 1)));
+            write(head, null);
+            head = head + 1 == capacity ? 0 : head + 1;
+        } else {
+            for(int i = index; i < size - 1; ++i) write(slot(i), read(slot(i + 1)));
+            write(slot(size - 1), null);
+        }
+
+        size--;
+        modCount++;
+        shrink();
+
+        return removed;
+    }
+
+    /**
+     * Removes every element, and drops every node.
+     */
+    @Override
+    public void clear() {
+
+        for(int k = 0; k < nodes; ++k) values[k] = null;
+
+        nodes = capacity = head = size = 0;
+        modCount++;
+    }
+
+    /**
+     * Adds {@code element} to the start of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     */
+    @Override
+    public void addFirst(E element) {
+        add(0, element);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     */
+    @Override
+    public void addLast(E element) {
+        add(size, element);
+    }
+
+    /**
+     * Adds {@code element} to the start of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean offerLast(E element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Removes the first element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the removed element
+     */
+    @Override
+    public E removeFirst() {
+
+        if(size == 0) throw new NoSuchElementException("The list is empty.");
+
+        return remove(0);
+    }
+
+    /**
+     * Removes the last element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the removed element
+     */
+    @Override
+    public E removeLast() {
+
+        if(size == 0) throw new NoSuchElementException("The list is empty.");
+
+        return remove(size - 1);
+    }
+
+    /**
+     * Removes the first element of the list, if there is one.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : remove(0);
+    }
+
+    /**
+     * Removes the last element of the list, if there is one.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : remove(size - 1);
+    }
+
+    /**
+     * Gets the first element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the first element
+     */
+    @Override
+    public E getFirst() {
+
+        if(size == 0) throw new NoSuchElementException("The list is empty.");
+
+        return read(head);
+    }
+
+    /**
+     * Gets the last element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the last element
+     */
+    @Override
+    public E getLast() {
+
+        if(size == 0) throw new NoSuchElementException("The list is empty.");
+
+        return read(slot(size - 1));
+    }
+
+    /**
+     * Gets the first element of the list, if there is one.
+     *
+     * @return the first element, or {@code null} if the list is empty
+     */
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : read(head);
+    }
+
+    /**
+     * Gets the last element of the list, if there is one.
+     *
+     * @return the last element, or {@code null} if the list is empty
+     */
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : read(slot(size - 1));
+    }
+
+    /**
+     * Removes the first element equal to {@code o}, if there is one.
+     *
+     * @param o the element to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+
+        int index = indexOf(o);
+        if(index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the last element equal to {@code o}, if there is one.
+     *
+     * @param o the element to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+
+        int index = lastIndexOf(o);
+        if(index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the first element equal to {@code o}, if there is one.
+     *
+     * @param o the element to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     * @return {@code true}
+     */
+    @Override
+    public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+    /**
+     * Removes the first element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the removed element
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first element of the list, if there is one.
+     *
+     * @return the removed element, or {@code null} if the list is empty
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Gets the first element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the first element
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Gets the first element of the list, if there is one.
+     *
+     * @return the first element, or {@code null} if the list is empty
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Adds {@code element} to the start of the list.
+     *
+     * @throws IllegalStateException if the list is already as large as it can grow
+     * @param element the element to add
+     */
+    @Override
+    public void push(E element) {
+        addFirst(element);
+    }
+
+    /**
+     * Removes the first element of the list.
+     *
+     * @throws NoSuchElementException if the list is empty
+     * @return the removed element
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Gets an iterator over the list from the last element to the first.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+
+        ListIterator<E> iterator = listIterator(size);
+
+        return new Iterator<E>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+
+        };
+    }
+
+    /**
+     * Gets a view of the list in reverse order, which is both a {@code List} and a {@code Deque}. Changes to
+     * either show through in the other.
+     *
+     * On Java 21 and later, this overrides both {@code List.reversed()} and {@code Deque.reversed()}, which
+     * would otherwise conflict.
+     *
+     * @return the reversed view
+     */
+    public DoublingDeque<E> reversed() {
+        return new Reversed<E>(this);
+    }
+
+    /**
+     * Adds a node twice the size of the last one (so doubling the number of slots, plus one). If the
+     * elements had wrapped around the end of the slots, the shorter of the two parts either side of the wrap
+     * is moved into the new node so that they stay in order.
+     *
+     * @throws IllegalStateException if the list already has as many nodes as it can
+     */
+    private void grow() {
+
+        if(nodes == DoublingNodes.MAX_NODES) throw new IllegalStateException("The list cannot grow past " + capacity + " elements.");
+
+        int oldCapacity = capacity;
+        values[nodes] = new Object[DoublingNodes.capacity(nodes)];
+        nodes++;
+        capacity = DoublingNodes.totalCapacity(nodes);
+
+        int wrapped = head + size - oldCapacity;
+        if(wrapped <= 0) return;
+
+        if(wrapped <= oldCapacity - head) {
+            // Move the wrapped part, from the first slots, to just after the old last slot.
+            move(0, oldCapacity, wrapped);
+        } else {
+            // Move the part from head to the old last slot to the new last slots.
+            int newHead = capacity - (oldCapacity - head);
+            move(head, newHead, oldCapacity - head);
+            head = newHead;
+        }
+    }
+
+    /**
+     * Packs the elements into as few nodes as leave the list at most half full, once it has dropped to a
+     * quarter of its capacity, dropping the nodes after them.
+     */
+    private void shrink() {
+
+        if(nodes <= 1 || size > capacity >> 2) return;
+
+        Object[] elements = toArray();
+        int keep = Math.max(1, DoublingNodes.nodesFor(size * 2));
+
+        for(int k = 0; k < nodes; ++k) {
+            if(k < keep) Arrays.fill(values[k], null);
+            else values[k] = null;
+        }
+
+        nodes = keep;
+        capacity = DoublingNodes.totalCapacity(nodes);
+        head = 0;
+
+        for(int i = 0; i < elements.length; ++i) write(i, (E) elements[i]);
+    }
+
+    /**
+     * Moves {@code count} elements from the slots starting at {@code from} to the ones starting at {@code to},
+     * a node at a time, clearing the slots they leave. Neither run of slots may wrap around, and they mustn't
+     * overlap.
+     *
+     * @param from the first slot to move from
+     * @param to the first slot to move to
+     * @param count the number of elements to move
+     */
+    private void move(int from, int to, int count) {
+
+        while(count > 0) {
+            int fromNode = DoublingNodes.nodeOf(from), toNode = DoublingNodes.nodeOf(to);
+            int fromOffset = DoublingNodes.offsetOf(from, fromNode), toOffset = DoublingNodes.offsetOf(to, toNode);
+            int fromRoom = DoublingNodes.capacity(fromNode) - fromOffset, toRoom = DoublingNodes.capacity(toNode) - toOffset;
+            int chunk = Math.min(count, Math.min(fromRoom, toRoom));
+
+            System.arraycopy(values[fromNode], fromOffset, values[toNode], toOffset, chunk);
+            Arrays.fill(values[fromNode], fromOffset, fromOffset + chunk, null);
+
+            from += chunk;
+            to += chunk;
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Gets the slot holding the element at {@code index}.
+     *
+     * @param index an index from {@code 0} to {@code size()}, with a slot free for {@code size()}
+     * @return the slot
+     */
+    private int slot(int index) {
+
+        // head - capacity is negative, so this can't overflow the way head + index could.
+        int slot = head - capacity + index;
+        return slot < 0 ? slot + capacity : slot;
+    }
+
+    /**
+     * Reads the element in slot {@code slot}.
+     *
+     * @param slot the slot
+     * @return the element, or {@code null} if the slot is empty
+     */
+    private E read(int slot) {
+        int node = DoublingNodes.nodeOf(slot);
+        return (E) values[node][DoublingNodes.offsetOf(slot, node)];
+    }
+
+    /**
+     * Writes {@code element} into slot {@code slot}.
+     *
+     * @param slot the slot
+     * @param element the element to write, or {@code null} to clear the slot
+     */
+    private void write(int slot, E element) {
+        int node = DoublingNodes.nodeOf(slot);
+        values[node][DoublingNodes.offsetOf(slot, node)] = element;
+    }
+
+    /**
+     * Checks that {@code index} is from {@code 0} to {@code bound - 1}.
+     *
+     * @throws IndexOutOfBoundsException if it isn't
+     * @param index the index to check
+     * @param bound one more than the largest allowed index
+     */
+    private void checkIndex(int index, int bound) {
+        if(index < 0 || index >= bound) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+    }
+
+    /**
+     * A reversed view of a {@code DoublingDeque}. Holds no elements of its own: every method that would read
+     * the view's own (empty) fields is overridden to call the backing list from the other end.
+     *
+     * @param <E> the type of element stored
+     */
+    private static final class Reversed<E> extends DoublingDeque<E> {
+
+        private final DoublingDeque<E> deque;
+
+        /**
+         * Creates a reversed view of {@code deque}.
+         *
+         * @param deque the list to view
+         */
+        Reversed(DoublingDeque<E> deque) {
+            this.deque = deque;
+        }
+
+        @Override
+        public int size() {
+            return deque.size;
+        }
+
+        @Override
+        public E get(int index) {
+            deque.checkIndex(index, deque.size);
+            return deque.get(deque.size - 1 - index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            deque.checkIndex(index, deque.size);
+            return deque.set(deque.size - 1 - index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            deque.checkIndex(index, deque.size + 1);
+            deque.add(deque.size - index, element);
+            modCount++;
+        }
+
+        @Override
+        public E remove(int index) {
+            deque.checkIndex(index, deque.size);
+            E removed = deque.remove(deque.size - 1 - index);
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            deque.clear();
+            modCount++;
+        }
+
+        @Override
+        public void addFirst(E element) {
+            add(0, element);
+        }
+
+        @Override
+        public void addLast(E element) {
+            add(deque.size, element);
+        }
+
+        @Override
+        public E removeFirst() {
+            E removed = deque.removeLast();
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public E removeLast() {
+            E removed = deque.removeFirst();
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public E pollFirst() {
+            return deque.size == 0 ? null : removeFirst();
+        }
+
+        @Override
+        public E pollLast() {
+            return deque.size == 0 ? null : removeLast();
+        }
+
+        @Override
+        public E getFirst() {
+            return deque.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return deque.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return deque.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return deque.peekFirst();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return deque.iterator();
+        }
+
+        @Override
+        public DoublingDeque<E> reversed() {
+            return deque;
+        }
+
+    }
+
+}
@@ -0,0 +1,194 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Test class for {@link DoublingDeque}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class DoublingDequeTest {
+
+    public DoublingDeque<Integer> deque;
+
+    public DoublingDequeTest() { }
+
+    @BeforeEach
+    public void setUp() {
+        deque = new DoublingDeque<Integer>();
+    }
+
+    /**
+     * Tests the {@code Deque} operations at both ends, the empty-list behaviour of each, and the descending
+     * iterator.
+     */
+    @Test
+    @DisplayName("Head and tail operations")
+    public void testEnds() {
+
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+
+        boolean thrown = false;
+
+        try {
+            deque.removeFirst();
+        } catch(NoSuchElementException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+        thrown = false;
+
+        try {
+            deque.getLast();
+        } catch(NoSuchElementException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+
+        for(int i = 0; i < 5; ++i) {
+            deque.addLast(i);
+            deque.push(-i - 1);
+        }
+
+        assertEquals(List.of(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4), deque);
+        assertEquals(-5, deque.peek());
+        assertEquals(4, deque.getLast());
+        assertEquals(3, deque.get(8));
+
+        List<Integer> descending = new ArrayList<Integer>();
+        for(Iterator<Integer> iterator = deque.descendingIterator(); iterator.hasNext(); ) descending.add(iterator.next());
+        assertEquals(List.of(4, 3, 2, 1, 0, -1, -2, -3, -4, -5), descending);
+
+        assertEquals(-5, deque.pop());
+        assertEquals(4, deque.pollLast());
+        assertTrue(deque.removeLastOccurrence(0));
+        assertFalse(deque.removeFirstOccurrence(42));
+        assertEquals(List.of(-4, -3, -2, -1, 1, 2, 3), deque);
+
+        thrown = false;
+
+        try {
+            deque.offerFirst(null);
+        } catch(NullPointerException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+    }
+
+    /**
+     * Tests a long run of random operations at both ends and in the middle against an {@code ArrayList},
+     * with the list growing and shrinking many times so that it wraps around at every node boundary.
+     */
+    @Test
+    @DisplayName("Random operations")
+    public void testMatchesArrayList() {
+
+        List<Integer> expected = new ArrayList<Integer>();
+        Random random = new Random(42);
+
+        for(int i = 0; i < 200000; ++i) {
+            // Drift between growing and shrinking every few thousand operations
+            boolean growing = (i / 5000) % 2 == 0;
+            int operation = random.nextInt(10);
+
+            if(expected.isEmpty() || operation < (growing ? 6 : 3)) {
+                if(random.nextBoolean()) {
+                    expected.add(0, i);
+                    deque.addFirst(i);
+                } else {
+                    expected.add(i);
+                    deque.addLast(i);
+                }
+            } else if(operation < 9) {
+                if(random.nextBoolean()) assertEquals(expected.remove(0), deque.pollFirst());
+                else assertEquals(expected.remove(expected.size() - 1), deque.pollLast());
+            } else if(random.nextBoolean()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, -i);
+                deque.add(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), deque.remove(index));
+            }
+
+            assertEquals(expected.size(), deque.size());
+
+            if(!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), deque.get(index));
+            }
+        }
+
+        assertEquals(expected, deque);
+
+        deque.clear();
+        assertTrue(deque.isEmpty());
+        deque.offer(7);
+        assertEquals(7, deque.element());
+    }
+
+    /**
+     * Tests {@link DoublingDeque#reversed()}: the view reads and writes the list from the other end, and
+     * changes through either one show through in the other.
+     */
+    @Test
+    @DisplayName("Reversed view")
+    public void testReversed() {
+
+        for(int i = 0; i < 5; ++i) deque.addLast(i);
+
+        DoublingDeque<Integer> reversed = deque.reversed();
+        assertSame(deque, reversed.reversed());
+        assertEquals(List.of(4, 3, 2, 1, 0), reversed);
+        assertEquals(4, reversed.getFirst());
+        assertEquals(0, reversed.peekLast());
+
+        reversed.addFirst(5);
+        reversed.addLast(-1);
+        reversed.add(1, 9);
+        assertEquals(List.of(-1, 0, 1, 2, 3, 4, 9, 5), deque);
+
+        assertEquals(5, reversed.pop());
+        assertEquals(-1, reversed.pollLast());
+        assertEquals(9, reversed.set(0, 8));
+        assertEquals(8, deque.getLast());
+        assertTrue(reversed.removeFirstOccurrence(2));
+        assertEquals(List.of(0, 1, 3, 4, 8), deque);
+
+        // Iterators over the view run backwards through the list
+        List<Integer> descending = new ArrayList<Integer>();
+        for(Iterator<Integer> iterator = reversed.descendingIterator(); iterator.hasNext(); ) descending.add(iterator.next());
+        assertEquals(deque, descending);
+
+        Iterator<Integer> iterator = reversed.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(List.of(0, 1, 3, 4), deque);
+
+        boolean thrown = false;
+
+        try {
+            reversed.get(4);
+        } catch(IndexOutOfBoundsException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+
+        reversed.clear();
+        assertTrue(deque.isEmpty());
+        assertNull(reversed.pollFirst());
+    }
+
+}
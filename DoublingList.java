@@ -2,27 +2,122 @@ import java.util.AbstractSequentialList;
 import java.util.ListIterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.lang.Math;
 /**
  * An implementation of a list which consists of nodes who contain arrays which
  * double in size each time a new node is added to the list.
  * 
+ * How large each new node is can be changed with a {@link GrowthPolicy} (doubling is the default), for
+ * instance to grow by less than double, or to stop node arrays getting too large to allocate cheaply.
+ * 
+ * Indexed access binary searches the node sizes, so {@code get} and {@code set} run in {@code O(log nodes)}
+ * and the list is marked {@link RandomAccess}. With the default doubling policy, indices in the leading run of
+ * full nodes (every index, in a list only ever appended to) are mapped to their node in {@code O(1)} instead.
+ * 
  * @author Jackson Eshbaugh
  * @version 04/09/2024
  */
-public class DoublingList<E> extends AbstractSequentialList<E> {
+public class DoublingList<E> extends AbstractSequentialList<E> implements RandomAccess {
 
     private Node<E> head = new Node<>(), tail = new Node<>();
     private int size = 0, cap = 0, nodes = 0;
 
+    // Decides the capacity of each new node. cap is the total capacity of the nodes, and compactAt the total
+    // capacity of all but the last two: once size drops to compactAt, the list is compacted. reserved is the
+    // capacity asked for by ensureCapacity, which compaction never drops below.
+    private final GrowthPolicy policy;
+    private int compactAt = 0, reserved = 0;
+
+    // Index over the node chain: directory[k] is the k-th node, and sizeTree is a Fenwick (binary indexed) tree
+    // over the node sizes, so that find() can binary search the cumulative sizes instead of walking the chain.
+    // nodeSizes[k] mirrors directory[k].size, so that the searches for a node with free slots (or with any
+    // elements) scan one int array instead of chasing node pointers.
+    private Node<E>[] directory = (Node<E>[]) new Node[32];
+    private int[] sizeTree = new int[33], nodeSizes = new int[32];
+
+    // capacityBefore[k] is the total capacity of nodes 0 to k - 1, so cap is capacityBefore[nodes]. Capacities
+    // depend only on a node's position, so an entry stays valid after compaction drops the node it ends at.
+    // With the default doubling policy, node k starts at index 2^k - 1, so find() can skip the search for any
+    // index in the first denseNodes nodes, which are all full. denseNodes stays 0 under any other policy.
+    private int[] capacityBefore = new int[33];
+    private final boolean doubling;
+    private int denseNodes = 0;
+
+    // The fewest elements the parallel bulk operations hand to a single task.
+    private static final int PARALLEL_GRAIN = 1 << 13;
+
+    // With gap buffering on, gapNode is the one node whose free slots may be somewhere other than the end of
+    // its array: a gap at the last place an element was added or removed. Null when every node is packed.
+    private boolean gapBuffered = false;
+    private Node<E> gapNode = null;
+
+    // Reused by find() so that lookups on the add/remove paths don't allocate. Only structural changes may use
+    // them, since those already can't run alongside anything else: get, set and iterators may be called from
+    // several threads at once, so they look up into a NodeInfo of their own (which escape analysis removes).
+    private final NodeInfo found = new NodeInfo(null, 0), shiftTarget = new NodeInfo(null, 0);
+
     /**
      * Creates a new, empty {@code DoublingList}.
      */
     public DoublingList() {
+        this(GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Creates a new, empty {@code DoublingList} whose nodes are sized by {@code policy}.
+     * 
+     * @param policy the policy deciding the capacity of each node
+     */
+    public DoublingList(GrowthPolicy policy) {
+
+        if(policy == null) throw new NullPointerException();
+
+        this.policy = policy;
+        doubling = policy == GrowthPolicy.DOUBLING;
         head.next = tail;
         tail.prev = head;
     }
 
+    /**
+     * Creates a new, empty {@code DoublingList} with room for {@code expectedSize} elements, allocating every
+     * node needed up front. See {@link #ensureCapacity(int)}.
+     * 
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     * @param expectedSize the number of elements to make room for
+     */
+    public DoublingList(int expectedSize) {
+        this();
+
+        if(expectedSize < 0) throw new IllegalArgumentException("The expected size can't be negative, but was " + expectedSize + ".");
+
+        ensureCapacity(expectedSize);
+    }
+
+    /**
+     * Creates a new {@code DoublingList} holding the elements of {@code collection}, in its iteration order.
+     * The nodes are allocated in one go and filled with block copies, as {@link #addAll(Collection)} does.
+     * 
+     * @throws NullPointerException if {@code collection} contains a {@code null} element
+     * @param collection the elements to add
+     */
+    public DoublingList(Collection<? extends E> collection) {
+        this();
+        addAll(collection);
+    }
+
     /**
      * Gets the size of the list.
      * 
@@ -61,6 +156,20 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
         return (Iterator<E>) new DoublingListIterator(this);
     }
     
+    /**
+     * Gets a {@link Spliterator} over this list which reads the node arrays directly, and splits at node
+     * boundaries where it can (the last node holds about half of the elements) and within a node's array
+     * otherwise. It is fail-fast, and reports {@code SIZED}, {@code SUBSIZED}, {@code ORDERED} and
+     * {@code NONNULL}, so {@code parallelStream()} divides the list evenly.
+     * 
+     * @return a Spliterator over this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        closeGap();
+        return new DoublingListSpliterator(head.next, 0, size, modCount);
+    }
+
     /**
      * Gets a {@link ListIterator} for this list, starting at the beginning of the list.
      * 
@@ -72,6 +181,40 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
         return listIterator(0);
     }
 
+    /**
+     * Gets the element at {@code index}, looking it up directly rather than through a list iterator.
+     * 
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    @Override
+    public E get(int index) {
+        NodeInfo info = find(index, new NodeInfo(null, 0));
+        return info.node.values[info.node.physical(info.offset)];
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}, looking it up directly rather than through a
+     * list iterator.
+     * 
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to replace
+     * @param element the element to store at {@code index}
+     * @return the element previously at {@code index}
+     */
+    @Override
+    public E set(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+
+        NodeInfo info = find(index, new NodeInfo(null, 0));
+        int slot = info.node.physical(info.offset);
+        E previous = info.node.values[slot];
+        info.node.values[slot] = element;
+        return previous;
+    }
+
     /**
      * Adds the given element {@code element} to the end of the list.
      * 
@@ -95,13 +238,22 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
         if(element == null) throw new NullPointerException("Null elements are not permitted.");
 
+        modCount++;
+
+        if(gapBuffered && index < size) {
+            addAtGap(index, element);
+            return;
+        }
+
+        closeGap();
+
         if(size < cap) {
             // CASE 1
             // At least one of the nodes has available slots.
             // cap must be > 0
 
             if(index <= size - 1) {
-                NodeInfo info = find(index);
+                NodeInfo info = find(index, found);
 
                 if(!info.node.isFull()) {
                     info.node.addShift(info.offset);
@@ -114,23 +266,33 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
                 // info.node is full.
                 // Check if a predecessor has space
 
-                Node<E> curr = info.node;
-
-                while(curr != head && curr.isFull()) curr = curr.prev;
+                int room = roomBefore(info.node.index);
 
-                if(curr != head) {
+                if(room >= 0) {
 
                     // Found a predecessor with space.
-                    leftShift(index - 1);
-
-                    info.node.values[info.offset - 1] = element;
-                    info.node.setSize(info.node.size + 1);
+                    Node<E> curr = directory[room];
+
+                    if(info.offset == 0 && room == info.node.index - 1) {
+                        // The predecessor sits directly before index, so nothing needs to move.
+                        curr.values[curr.size] = element;
+                        curr.setSize(curr.size + 1);
+                        size++;
+                        return;
+                    }
+
+                    // The element lands where index - 1 was before the shift, which may be in an earlier node.
+                    NodeInfo target = find(index - 1, shiftTarget);
+                    leftShift(target.node, target.offset);
+
+                    target.node.values[target.offset] = element;
+                    target.node.setSize(target.node.size + 1);
                     size++;
                     return;
                 }
 
                 // Must be a successor node with space
-                rightShift(index);
+                rightShift(info.node, info.offset);
                 info.node.values[info.offset] = element;
                 info.node.setSize(info.node.size + 1);
                 size++;
@@ -139,12 +301,12 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
             // index == size
 
-            Node<E> curr = tail;
-            while(curr.size == 0) curr = curr.prev;
+            // If every node is empty (their capacity was reserved up front), start filling the first.
+            Node<E> curr = directory[Math.max(lastOccupied(), 0)];
 
             if(!curr.isFull()) {
                 curr.values[curr.size] = element;
-                curr.size++;
+                curr.setSize(curr.size + 1);
                 size++;
                 return;
             }
@@ -152,15 +314,12 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
             // curr is full
             // Check if a predecessor of curr has space
 
-            Node<E> curr2 = curr;
-            while(curr2.isFull() && curr2 != head) curr2 = curr2.prev;
-
-            if(curr2 != head) {
+            if(roomBefore(curr.index) >= 0) {
                 // A predecessor has space
-                leftShift(index - 1);
+                leftShift(curr, curr.size - 1);
 
                 curr.values[curr.size] = element;
-                curr.size++;
+                curr.setSize(curr.size + 1);
                 size++;
                 return;
             }
@@ -168,7 +327,7 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
             // Else, an empty successor must exist.
             curr = curr.next;
             curr.values[curr.size] = element;
-            curr.size++;
+            curr.setSize(curr.size + 1);
             size++;
             return;
         }
@@ -176,27 +335,20 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
         // CASE 2: size == cap
         // All nodes in the list are full
 
-        Node<E> newNode = new Node((int) Math.pow(2, nodes));
-        nodes++;
-        cap = (int) Math.pow(2, nodes) - 1;
-
-        newNode.next = tail;
-        tail.prev.next = newNode;
-        newNode.prev = tail.prev;
-        tail.prev = newNode;
+        Node<E> newNode = appendNode();
 
         if(index == size) {
             newNode.values[0] = element;
             size++;
-            newNode.size++;
+            newNode.setSize(newNode.size + 1);
             return;
         }
 
         // else, index < size
 
-        NodeInfo info = find(index);
+        NodeInfo info = find(index, found);
 
-        rightShift(index);
+        rightShift(info.node, info.offset);
 
         info.node.values[info.offset] = element;
         info.node.setSize(info.node.size + 1);
@@ -214,202 +366,1109 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
     public E remove(int index) {
 
         // Find and save the element at index
-        NodeInfo info = find(index);
+        NodeInfo info = find(index, found);
+        modCount++;
+
+        if(gapBuffered) {
+            // Widen the gap over the element, rather than shifting the rest of the node down.
+            gapTo(info.node, info.offset);
+            info.offset = info.node.physical(info.offset);
+        }
+
         E temp = info.node.values[info.offset];
 
         info.node.values[info.offset] = null;
         info.node.setSize(info.node.size - 1);
         size--;
 
-        if(size() == 0) {
+        if(size() == 0 && reserved == 0) {
             // List is empty, replace it with a (new) empty list
-            head.next = tail;
-            tail.prev = head;
-            cap = 0;
-            nodes = 0;
+            clearNodes();
             return temp;
         }
 
-        info.node.removeShift(info.offset);
+        if(!gapBuffered) info.node.removeShift(info.offset);
+
+        if(size() <= compactAt) {
+            // List has too much empty space spread across nodes, so compact this list.
+            compact(1);
+        }
+
+        return temp;
+    }
+
+    /**
+     * Removes every element from the list, dropping all of its nodes at once (including any reserved by
+     * {@link #ensureCapacity(int)}).
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        reserved = 0;
+        clearNodes();
+        size = 0;
+    }
+
+    /**
+     * Makes sure the list has room for at least {@code minCapacity} elements, appending every node needed in
+     * one go. The list won't compact itself below that capacity as elements are removed, so a list filled up
+     * to it and drained again keeps its nodes, until {@link #trimToSize()} or {@link #clear()}.
+     * 
+     * @throws IllegalStateException if the capacity would have to pass {@code Integer.MAX_VALUE}
+     * @param minCapacity the number of elements to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+
+        if(minCapacity <= reserved) return;
+
+        while(cap < minCapacity) appendNode();
+
+        reserved = minCapacity;
+        updateCompactAt();
+    }
+
+    /**
+     * Frees every node the list doesn't need. The elements are packed into as few nodes as will hold them, as
+     * compaction does but without the extra empty node on the end, and the trailing nodes are dropped. Any
+     * capacity reserved by {@link #ensureCapacity(int)} is released.
+     */
+    public void trimToSize() {
+
+        modCount++;
+        reserved = 0;
+
+        if(size == 0) clearNodes();
+        else compact(0);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive). Used by
+     * {@link #clear()} on sub lists. Each node in the range is closed up with at most one block copy (nodes
+     * entirely inside the range are simply emptied), and the list is compacted at most once at the end.
+     * 
+     * @throws IndexOutOfBoundsException when the range is out of the bounds {@code 0} to {@code size()}, or
+     * {@code fromIndex > toIndex}
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex the index after the last element to remove
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Range " + fromIndex + " to " + toIndex + " out of bounds for size " + size + ".");
+
+        if(fromIndex == toIndex) return;
+
+        if(toIndex - fromIndex == size && reserved == 0) {
+            // Nothing is reserved, so the nodes can all go (otherwise they're emptied below, as remove does).
+            clear();
+            return;
+        }
+
+        modCount++;
+        closeGap();
 
-        if(size() <= Math.pow(2, nodes - 2) - 1) {
+        NodeInfo info = find(fromIndex, found);
+        Node<E> node = info.node;
+        int offset = info.offset, remaining = toIndex - fromIndex;
 
+        while(remaining > 0) {
+            int removed = Math.min(remaining, node.size - offset);
+
+            // Close the gap, then clear the duplicates left at the end of the node.
+            System.arraycopy(node.values, offset + removed, node.values, offset, node.size - offset - removed);
+            Arrays.fill(node.values, node.size - removed, node.size, null);
+            node.setSize(node.size - removed);
+
+            remaining -= removed;
+            node = node.next;
+            offset = 0;
+        }
+
+        size -= toIndex - fromIndex;
+
+        if(size() <= compactAt) {
             // List has too much empty space spread across nodes, so compact this list.
+            compact(1);
+        }
+    }
+
+    /**
+     * Adds every element of {@code collection} to the end of the list, in the collection's iteration order.
+     * 
+     * @throws NullPointerException if {@code collection} contains a {@code null} element (the list is left unchanged)
+     * @param collection the elements to add
+     * @return {@code true} if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size, collection);
+    }
+
+    /**
+     * Adds every element of {@code collection} to the list starting at index {@code index}, in the collection's
+     * iteration order. The node chain is grown once for the whole batch, and the elements after {@code index}
+     * are moved once, rather than once per added element.
+     * 
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds {@code 0} to {@code size()}
+     * @throws NullPointerException if {@code collection} contains a {@code null} element (the list is left unchanged)
+     * @param index the index to add the first element of {@code collection} at
+     * @param collection the elements to add
+     * @return {@code true} if the list changed
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+
+        if(index < 0 || index > size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+
+        Object[] incoming = collection.toArray();
+
+        for(Object element : incoming)
+            if(element == null) throw new NullPointerException("Null elements are not permitted.");
+
+        if(incoming.length == 0) return false;
+
+        modCount++;
+        closeGap();
+
+        if(index == size) {
+            append(incoming, incoming.length);
+            return true;
+        }
+
+        // Lift out everything from index onwards, then append the new elements followed by it, so that each
+        // moved element is copied exactly once.
+
+        Object[] moved = Arrays.copyOf(incoming, incoming.length + size - index);
+        int copied = incoming.length;
+
+        NodeInfo info = find(index, found);
+        Node<E> node = info.node;
+        int offset = info.offset;
+
+        while(node != tail) {
+            System.arraycopy(node.values, offset, moved, copied, node.size - offset);
+            copied += node.size - offset;
+
+            Arrays.fill(node.values, offset, node.size, null);
+            node.setSize(offset);
+
+            node = node.next;
+            offset = 0;
+        }
+
+        size = index;
+        append(moved, moved.length);
+        return true;
+    }
+
+    /**
+     * Performs {@code action} on each element of the list, in order, reading each node's array directly.
+     * 
+     * @throws ConcurrentModificationException if {@code action} structurally modifies the list
+     * @param action the action to perform on each element
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+
+        if(action == null) throw new NullPointerException();
+
+        int expectedModCount = modCount;
+        closeGap();
+
+        for(Node<E> curr = head.next; curr != tail && expectedModCount == modCount; curr = curr.next) {
+            E[] values = curr.values;
+            for(int i = 0; i < curr.size && expectedModCount == modCount; ++i) action.accept(values[i]);
+        }
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during forEach.");
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying {@code operator} to it, in place.
+     * 
+     * @throws NullPointerException if {@code operator} returns {@code null} (elements before that one have
+     * already been replaced)
+     * @throws ConcurrentModificationException if {@code operator} structurally modifies the list
+     * @param operator the operator to apply to each element
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
 
-            // Save the old list
-            Node<E> curr = head.next, working = new Node(1);
+        if(operator == null) throw new NullPointerException();
 
-            // Setup like a new list
-            head.next = tail;
-            tail.prev = head;
-            size = 0;
-            nodes = 0;
-            cap = 0;
+        int expectedModCount = modCount;
+        closeGap();
 
-            // Loop through the old list and add each element to the new list.
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            E[] values = curr.values;
 
-            while(curr != tail) {
-                for(int i = 0; i < curr.size; ++i) {
-                    this.add(curr.values[i]);
+            for(int i = 0; i < curr.size; ++i) {
+                E replacement = operator.apply(values[i]);
+
+                if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during replaceAll.");
+                if(replacement == null) throw new NullPointerException("Null elements are not permitted.");
+
+                values[i] = replacement;
+            }
+        }
+    }
+
+    /**
+     * Removes every element of the list matching {@code filter}. The filter is applied to every element before
+     * anything is removed (so if it throws, the list is unchanged), then each node is closed up in a single
+     * pass, exactly as removing those elements one at a time with {@link #remove(int)} would leave them, and
+     * the list is compacted at most once at the end.
+     * 
+     * @throws ConcurrentModificationException if {@code filter} structurally modifies the list
+     * @param filter the condition for removing an element
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+
+        if(filter == null) throw new NullPointerException();
+
+        int expectedModCount = modCount, removed = 0;
+        closeGap();
+        long[] matches = new long[(size >> 6) + 1];
+        int logicalIndex = 0;
+
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            for(int i = 0; i < curr.size; ++i, ++logicalIndex) {
+                boolean match = filter.test(curr.values[i]);
+
+                // Checked before marking, since a list that has grown could run past the end of matches.
+                if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during removeIf.");
+
+                if(match) {
+                    matches[logicalIndex >> 6] |= 1L << logicalIndex;
+                    removed++;
                 }
-                curr = curr.next;
             }
+        }
+
+        if(removed == 0) return false;
+
+        modCount++;
+        logicalIndex = 0;
+
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            int kept = 0;
 
-            // Add the extra empty node on the end
-            Node<E> newNode = new Node((int) Math.pow(2, nodes));
-            nodes++;
-            cap = (int) Math.pow(2, nodes) - 1;
+            for(int i = 0; i < curr.size; ++i, ++logicalIndex)
+                if((matches[logicalIndex >> 6] & 1L << logicalIndex) == 0) curr.values[kept++] = curr.values[i];
+
+            Arrays.fill(curr.values, kept, curr.size, null);
+            curr.setSize(kept);
+        }
+
+        size -= removed;
+
+        if(size == 0 && reserved == 0) {
+            clearNodes();
+        } else if(size() <= compactAt) {
+            // List has too much empty space spread across nodes, so compact this list.
+            compact(1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts the list. The elements are copied into a single array, sorted there, then written back into the
+     * nodes they came from, so every node keeps its size.
+     * 
+     * @param comparator the comparator to sort with, or {@code null} to use the elements' natural ordering
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+
+        int expectedModCount = modCount;
+        Object[] elements = new Object[size];
+        int copied = 0;
+        closeGap();
+
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            System.arraycopy(curr.values, 0, elements, copied, curr.size);
+            copied += curr.size;
+        }
+
+        Arrays.sort((E[]) elements, comparator);
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during sort.");
+
+        copied = 0;
+
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            System.arraycopy(elements, copied, curr.values, 0, curr.size);
+            copied += curr.size;
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Performs {@code action} on each element of the list, in parallel. The nodes are cut into segments (each
+     * node's array is independent, so a large node is simply cut into several) which are worked through by
+     * tasks in the {@link ForkJoinPool} of the calling thread, or the common pool if it isn't a worker thread.
+     * The order {@code action} sees the elements in is unspecified, and it may be called from several threads
+     * at once.
+     * 
+     * @throws ConcurrentModificationException if the list was structurally modified while running
+     * @param action the action to perform on each element
+     */
+    public void parallelForEach(Consumer<? super E> action) {
+
+        if(action == null) throw new NullPointerException();
+
+        int expectedModCount = modCount;
+
+        inParallel(segments(), segment -> {
+            E[] values = segment.node.values;
+            for(int i = segment.from; i < segment.to; ++i) action.accept(values[i]);
+        });
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during parallelForEach.");
+    }
+
+    /**
+     * Replaces each element of the list with the result of applying {@code operator} to it, in parallel, in
+     * the same way as {@link #parallelForEach(Consumer)}.
+     * 
+     * @throws NullPointerException if {@code operator} returns {@code null} (some other elements may already
+     * have been replaced)
+     * @throws ConcurrentModificationException if the list was structurally modified while running
+     * @param operator the operator to apply to each element
+     */
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+
+        if(operator == null) throw new NullPointerException();
+
+        int expectedModCount = modCount;
+
+        inParallel(segments(), segment -> {
+            E[] values = segment.node.values;
+
+            for(int i = segment.from; i < segment.to; ++i) {
+                E replacement = operator.apply(values[i]);
+                if(replacement == null) throw new NullPointerException("Null elements are not permitted.");
+                values[i] = replacement;
+            }
+        });
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during parallelReplaceAll.");
+    }
+
+    /**
+     * Sorts the list in parallel. Like {@link #sort(Comparator)}, the elements are copied into a single array,
+     * which is sorted with {@link Arrays#parallelSort(Object[], Comparator)}, then written back into the nodes
+     * they came from; both copies are also done in parallel, a segment per task.
+     * 
+     * @throws ConcurrentModificationException if the list was structurally modified while sorting
+     * @param comparator the comparator to sort with, or {@code null} to use the elements' natural ordering
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+
+        int expectedModCount = modCount;
+        Object[] elements = new Object[size];
+        Segment[] segments = segments();
+
+        inParallel(segments, segment -> System.arraycopy(segment.node.values, segment.from, elements, segment.start, segment.to - segment.from));
+        Arrays.parallelSort((E[]) elements, comparator);
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during parallelSort.");
+
+        inParallel(segments, segment -> System.arraycopy(elements, segment.start, segment.node.values, segment.from, segment.to - segment.from));
+        modCount++;
+    }
+
+    /**
+     * Replaces each element of the list with the result of combining it, and every element before it, with
+     * {@code operator}, in parallel (as {@link Arrays#parallelPrefix(Object[], BinaryOperator)} does for an
+     * array). For example, with {@code Integer::sum}, {@code [1, 2, 3, 4]} becomes {@code [1, 3, 6, 10]}.
+     * 
+     * Each segment is first combined on its own, in parallel. The last element of each segment then gives the
+     * value carried into the next, which is a short sequential pass over the segments, and finally every
+     * segment but the first has its carry combined into each of its elements, in parallel again. So
+     * {@code operator} must be associative, and it may be called from several threads at once.
+     * 
+     * @throws NullPointerException if {@code operator} returns {@code null} (the list is left partly combined)
+     * @throws ConcurrentModificationException if the list was structurally modified while running
+     * @param operator an associative operator to combine elements with
+     */
+    public void parallelPrefix(BinaryOperator<E> operator) {
+
+        if(operator == null) throw new NullPointerException();
+
+        int expectedModCount = modCount;
+        Segment[] segments = segments();
+
+        inParallel(segments, segment -> {
+            E[] values = segment.node.values;
+            for(int i = segment.from + 1; i < segment.to; ++i) values[i] = combine(operator, values[i - 1], values[i]);
+        });
+
+        E carry = null;
+
+        for(Segment segment : segments) {
+            E last = segment.node.values[segment.to - 1];
+            segment.carry = carry;
+            carry = carry == null ? last : combine(operator, carry, last);
+        }
+
+        inParallel(segments, segment -> {
+            if(segment.carry == null) return;
+
+            E[] values = segment.node.values;
+            for(int i = segment.from; i < segment.to; ++i) values[i] = combine(operator, segment.carry, values[i]);
+        });
+
+        if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during parallelPrefix.");
+    }
+
+    /**
+     * Applies {@code operator} to {@code left} and {@code right}, rejecting a {@code null} result.
+     * 
+     * @throws NullPointerException if {@code operator} returns {@code null}
+     * @param operator the operator to apply
+     * @param left the left operand
+     * @param right the right operand
+     * @return the result
+     */
+    private E combine(BinaryOperator<E> operator, E left, E right) {
+
+        E result = operator.apply(left, right);
+        if(result == null) throw new NullPointerException("Null elements are not permitted.");
+
+        return result;
+    }
+
+    /**
+     * Cuts the elements of the list into segments for the parallel bulk operations. Each segment lies within
+     * a single node and holds at most a quarter of one worker thread's share of the list (or
+     * {@code PARALLEL_GRAIN} elements, if that's more), so a large trailing node is split across several
+     * tasks. Empty nodes are skipped.
+     * 
+     * @return the segments, in list order
+     */
+    private Segment[] segments() {
+
+        closeGap();
+
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int parallelism = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        int grain = Math.max(PARALLEL_GRAIN, size / (parallelism * 4) + 1);
+
+        Segment[] segments = (Segment[]) new DoublingList.Segment[nodes + size / grain];
+        int count = 0, start = 0;
+
+        for(Node<E> curr = head.next; curr != tail; curr = curr.next) {
+            for(int from = 0; from < curr.size; from += grain) {
+                int to = Math.min(curr.size, from + grain);
+                segments[count++] = new Segment(curr, from, to, start);
+                start += to - from;
+            }
+        }
+
+        return Arrays.copyOf(segments, count);
+    }
+
+    /**
+     * Runs {@code work} on every segment, splitting the segments between tasks in the {@link ForkJoinPool} of
+     * the calling thread, or the common pool if it isn't a worker thread. Returns once every segment is done,
+     * rethrowing the first exception thrown by {@code work}, if any.
+     * 
+     * @param segments the segments to work on
+     * @param work the work to do on each segment
+     */
+    private void inParallel(Segment[] segments, Consumer<Segment> work) {
+        if(segments.length > 0) new SegmentTask(segments, 0, segments.length, work).invoke();
+    }
+
+    /**
+     * Turns gap buffering on or off. It is off for a new list.
+     * 
+     * With gap buffering on, the node where an element was last added or removed keeps its free slots as a
+     * gap at that point, rather than at the end of its array. Adding or removing another element near the
+     * same place only moves the elements between the two points across the gap, so a run of edits at or
+     * around a cursor costs {@code O(1)} each instead of shifting the rest of the node every time. And when
+     * an element has to go into a full node, up to half of that node's elements are pushed into the
+     * nearest node with room at once, rather than one, so that the node has room for the edits that follow. The
+     * gap is moved back to the end of its node whenever something needs the nodes packed (bulk operations,
+     * spliterators, compaction and so on). Element order and {@code get}/{@code set} are unaffected, but
+     * node sizes can end up differing from those of a list without gap buffering, and since even methods
+     * which only read the list may move the gap, a gap-buffered list must not be read from several threads
+     * at once without synchronization.
+     * 
+     * @param gapBuffered {@code true} to turn gap buffering on
+     */
+    public void setGapBuffered(boolean gapBuffered) {
+        if(!gapBuffered) closeGap();
+        this.gapBuffered = gapBuffered;
+    }
+
+    /**
+     * Checks if gap buffering is on.
+     * 
+     * @return {@code true} if gap buffering is on
+     * @see #setGapBuffered(boolean)
+     */
+    public boolean isGapBuffered() {
+        return gapBuffered;
+    }
+
+    /**
+     * Adds {@code element} at {@code index} through the gap, for {@link #add(int, Object)} with gap buffering on.
+     * If the node holding {@code index} is full, it first pushes some of that node's elements on to the nearest
+     * node after it with room, or back to the nearest one before it if there is none (adding a node if the
+     * list is full), so that the element fits. Doesn't touch {@code modCount}.
+     * 
+     * @param index the index to add {@code element} at, which must be below {@code size()}
+     * @param element the element to add
+     */
+    private void addAtGap(int index, E element) {
+
+        NodeInfo info = find(index, found);
+
+        while(true) {
+            Node<E> node = info.node;
+            int offset = info.offset;
+
+            if(offset == 0 && node.prev != head && !node.prev.isFull()) {
+                // The predecessor's last slot sits directly before index.
+                node = node.prev;
+                offset = node.size;
+            } else if(node.isFull()) {
+                // Only the elements from offset onwards are pushed forward (or before offset back), so that
+                // afterwards index is in node, or just after its last element.
+
+                int room = roomFrom(node.index + 1);
+                Node<E> target = room < nodes ? directory[room] : size == cap ? appendNode() : tail;
+
+                if(target != tail) {
+                    int count = Math.min(target.values.length - target.size, node.values.length - offset);
+                    spillForward(node, target, Math.min(count, Math.max(1, node.values.length / 2)));
+                } else {
+                    // The only free slots are before index. Work from the end of the previous node if index
+                    // is at the start of this one.
+                    if(offset == 0) {
+                        node = node.prev;
+                        offset = node.size;
+                    }
+
+                    target = directory[roomBefore(node.index)];
+
+                    int count = Math.min(target.values.length - target.size, offset);
+                    if(target.next != node) count = Math.min(count, target.next.values.length);
+                    spillBack(node, target, Math.min(count, Math.max(1, node.values.length / 2)));
+                }
+
+                info = find(index, found);
+                continue;
+            }
+
+            gapTo(node, offset);
+            node.values[node.gap++] = element;
+            node.setSize(node.size + 1);
+            size++;
+            return;
+        }
+    }
+
+    /**
+     * Moves the last {@code count} elements of the full node {@code node} on to the start of {@code target}, the
+     * first node after it with at least {@code count} free slots, carrying {@code count} elements from the end
+     * of each full node in between on to the start of the next. Leaves {@code count} free slots at the end of
+     * {@code node}, and every node in between still full.
+     * 
+     * @param node the full node to make room in
+     * @param target the first node after {@code node} which isn't full
+     * @param count the number of slots to free in {@code node}
+     */
+    private void spillForward(Node<E> node, Node<E> target, int count) {
+
+        closeGap();
+
+        System.arraycopy(target.values, 0, target.values, count, target.size);
+
+        Node<E> toNode = target, fromNode = target.prev;
+
+        while(true) {
+            System.arraycopy(fromNode.values, fromNode.values.length - count, toNode.values, 0, count);
+            if(fromNode == node) break;
+
+            System.arraycopy(fromNode.values, 0, fromNode.values, count, fromNode.values.length - count);
+            toNode = fromNode;
+            fromNode = fromNode.prev;
+        }
+
+        Arrays.fill(node.values, node.values.length - count, node.values.length, null);
+        node.setSize(node.size - count);
+        target.setSize(target.size + count);
+    }
+
+    /**
+     * Moves the first {@code count} elements of the full node {@code node} back on to the end of {@code target},
+     * the last node before it with at least {@code count} free slots, carrying {@code count} elements from the
+     * start of each full node in between back on to the end of the one before. Leaves {@code count} free slots
+     * at the end of {@code node}, and every node in between still full.
+     * 
+     * @param node the full node to make room in
+     * @param target the last node before {@code node} which isn't full
+     * @param count the number of slots to free in {@code node}, no more than the capacity of any node in between
+     */
+    private void spillBack(Node<E> node, Node<E> target, int count) {
+
+        closeGap();
+
+        Node<E> toNode = target, fromNode = target.next;
+        int toOffset = target.size;
+
+        while(true) {
+            System.arraycopy(fromNode.values, 0, toNode.values, toOffset, count);
+            System.arraycopy(fromNode.values, count, fromNode.values, 0, fromNode.values.length - count);
+            if(fromNode == node) break;
+
+            toNode = fromNode;
+            toOffset = fromNode.values.length - count;
+            fromNode = fromNode.next;
+        }
+
+        Arrays.fill(node.values, node.values.length - count, node.values.length, null);
+        node.setSize(node.size - count);
+        target.setSize(target.size + count);
+    }
+
+    /**
+     * Moves the gap to {@code offset} in {@code node}, first closing the gap in any other node.
+     * 
+     * @param node the node to make the {@code gapNode}
+     * @param offset the offset (from {@code 0} to {@code node.size}) for the gap to start at
+     */
+    private void gapTo(Node<E> node, int offset) {
+
+        if(gapNode != node) {
+            closeGap();
+            gapNode = node;
+            node.gap = node.size;
+        }
+
+        node.moveGap(offset);
+    }
+
+    /**
+     * Moves the gap in {@code gapNode}, if there is one, back to the end of its node, so that every node's
+     * elements are at the start of its array again. Everything which reads or writes node arrays directly,
+     * other than {@code get}, {@code set} and list iterators (which go through {@code Node.physical}), calls
+     * this first.
+     */
+    private void closeGap() {
+
+        if(gapNode == null) return;
+
+        gapNode.moveGap(gapNode.size);
+        gapNode.gap = -1;
+        gapNode = null;
+    }
+
+    /**
+     * Shift each element (up to and including the element at {@code finishOffset} in {@code finishNode}) to the left.
+     * Leaves a final duplicate of that element which can be ignored for these use cases (adding
+     * to the list)
+     * 
+     * @param finishNode the node holding the last element to shift
+     * @param finishOffset the offset of the last element to shift in {@code finishNode}
+     */
+    private void leftShift(Node<E> finishNode, int finishOffset) {
+
+        // assume there is a node before finishNode that has an empty space.
+        // then, shift each element up to and including the finishing element to the left by one.
+
+        // First, identify the rightmost node that is before this node that has space.
+
+        Node<E> rightmostNode = directory[roomBefore(finishNode.index)];
+
+        // this node will grow by a size of 1, so premptively increase the size.
+        rightmostNode.setSize(rightmostNode.size + 1);
+
+        // Every node after rightmostNode up to finishNode is full. Carry each node's first element into the
+        // last slot of the node before it, then block-move the rest of the node down by one.
+
+        Node<E> toNode = rightmostNode, fromNode = rightmostNode.next;
+        int toOffset = rightmostNode.size - 1;
+
+        while(fromNode != finishNode) {
+            toNode.values[toOffset] = fromNode.values[0];
+            System.arraycopy(fromNode.values, 1, fromNode.values, 0, fromNode.values.length - 1);
+
+            toNode = fromNode;
+            toOffset = fromNode.values.length - 1;
+            fromNode = fromNode.next;
+        }
+
+        // Shift the final run, up to and including the finishing element
+        toNode.values[toOffset] = finishNode.values[0];
+        System.arraycopy(finishNode.values, 1, finishNode.values, 0, finishOffset);
+
+        // make space in size for the next element. 
+        finishNode.setSize(finishNode.size - 1);
+    }
+
+    /**
+     * Shift each element (starting with the element at {@code finishOffset} in {@code finishNode}) to the right.
+     * Leaves a final duplicate of that element which can be ignored for these use cases (adding
+     * to the list)
+     * 
+     * @param finishNode the node holding the first element to shift
+     * @param finishOffset the offset of the first element to shift in {@code finishNode}
+     */
+    private void rightShift(Node<E> finishNode, int finishOffset) {
+
+        // assume there is a node at or after finishNode that has an empty space.
+        // then, shift each element from the finishing element onwards to the right by one.
+
+        // First, identify the leftmost node that is after this node that has space.
+
+        Node<E> leftmostNode = directory[roomFrom(finishNode.index)];
+
+        if(leftmostNode == finishNode) {
+            // Everything to move is in this node.
+            finishNode.addShift(finishOffset);
+            return;
+        }
+
+        // Make room at the front of leftmostNode.
+        leftmostNode.addShift(0);
+        leftmostNode.setSize(leftmostNode.size + 1);
+
+        // Every node from finishNode up to leftmostNode is full. Carry each node's last element into the
+        // first slot of the node after it, then block-move the rest of the node up by one.
+
+        Node<E> toNode = leftmostNode, fromNode = leftmostNode.prev;
+
+        while(fromNode != finishNode) {
+            toNode.values[0] = fromNode.values[fromNode.values.length - 1];
+            System.arraycopy(fromNode.values, 0, fromNode.values, 1, fromNode.values.length - 1);
+
+            toNode = fromNode;
+            fromNode = fromNode.prev;
+        }
+
+        // Shift the final run, starting with the finishing element
+        toNode.values[0] = finishNode.values[finishNode.values.length - 1];
+        System.arraycopy(finishNode.values, finishOffset, finishNode.values, finishOffset + 1,
+            finishNode.values.length - 1 - finishOffset);
+
+        finishNode.setSize(finishNode.size - 1);
+
+    }
+
+    /**
+     * Fills in a {@link DoublingList#NodeInfo} object with the node and offset of a
+     * given {@code logicalIndex}. Runs in {@code O(log nodes)} using the node index, and doesn't allocate. If
+     * the index falls in the leading run of full nodes (sized by doubling), the node is found in {@code O(1)}
+     * from the index's highest bit.
+     * 
+     * @param logicalIndex the logicalIndex to locate
+     * @param into the {@code NodeInfo} to fill in
+     * @return {@code into}, now pointing at the given {@code logicalIndex} 
+     */
+    private NodeInfo find(int logicalIndex, NodeInfo into) {
+
+        // Edge case handling
+        if(logicalIndex < 0 || logicalIndex >= size) throw new IndexOutOfBoundsException("Index " + logicalIndex + " out of bounds for cap " + cap + ".");
+
+        if(logicalIndex < capacityBefore[denseNodes]) {
+            // Node k holds indices 2^k - 1 to 2^(k + 1) - 2, so it's the highest set bit of logicalIndex + 1.
+            int node = 31 - Integer.numberOfLeadingZeros(logicalIndex + 1);
+
+            into.node = directory[node];
+            into.offset = logicalIndex + 1 - (1 << node);
+            return into;
+        }
+
+        // Binary search the Fenwick tree for the last node whose preceding elements number <= logicalIndex.
+        // Empty nodes share their predecessor's prefix sum, so they are always skipped over.
+        int position = 0, remaining = logicalIndex;
+
+        for(int step = Integer.highestOneBit(nodes); step > 0; step >>= 1) {
+            if(position + step <= nodes && sizeTree[position + step] <= remaining) {
+                position += step;
+                remaining -= sizeTree[position];
+            }
+        }
+
+        if(position < nodes) {
+            into.node = directory[position];
+            into.offset = remaining;
+            return into;
+        }
+
+        throw new NoSuchElementException("Logical index " + logicalIndex + " not found in the list. This should not happen.");
+    }
+
+    /**
+     * Links a new, empty node with the capacity the growth policy gives node {@code nodes} onto the end of the
+     * node chain and registers it in the node index.
+     * 
+     * @throws IllegalStateException if the growth policy gives the node a capacity of less than {@code 1}
+     * @return the new node
+     */
+    private Node<E> appendNode() {
+        return appendNode((E[]) new Object[nodeCapacity(nodes)]);
+    }
 
-            newNode.next = tail;
-            tail.prev.next = newNode;
-            newNode.prev = tail.prev;
-            tail.prev = newNode;
+    /**
+     * Gets the capacity the growth policy gives node {@code node}, checking that it's at least {@code 1}. A
+     * custom policy which breaks that rule would otherwise have {@link #add(Object)} index past an empty node,
+     * or grow the list by empty nodes until it runs out of memory.
+     *
+     * @throws IllegalStateException if the capacity is less than {@code 1}
+     * @param node the position of the node
+     * @return the node's capacity
+     */
+    int nodeCapacity(int node) {
 
-        }
+        int capacity = policy.capacity(node);
+        if(capacity < 1) throw new IllegalStateException("Growth policy " + policy + " gives node " + node + " a capacity of " + capacity + ", but every node needs at least 1 slot.");
 
-        return temp;
+        return capacity;
     }
 
     /**
-     * Shift each element (up to and including the element at {@code index}) to the left.
-     * Leaves a final duplicate of the element at {@code index} which can be ignored for these use cases (adding
-     * to the list)
+     * Links a new node using {@code values} (which must have the length the growth policy gives node
+     * {@code nodes}) as its array onto the end of the node chain and registers it in the node index. The node
+     * starts out empty.
      * 
-     * @param index the logical index where the shift should occur.
+     * @throws IllegalStateException if the list's capacity would pass {@code Integer.MAX_VALUE}
+     * @param values the array for the new node
+     * @return the new node
      */
-    private void leftShift(int index) {
-
-        NodeInfo finish = find(index);
+    private Node<E> appendNode(E[] values) {
 
-        // assume there is a node before finish.node that has an empty space.
-        // then, shift each element with a logical index <= that of startPoint to the left by one.
+        if(values.length > Integer.MAX_VALUE - cap) throw new IllegalStateException("The list cannot grow past " + Integer.MAX_VALUE + " elements.");
 
-        // First, identify the rightmost node that is before this node that has space.
+        if(nodes == directory.length) {
+            // Only policies with small nodes need more than the initial 32; the Fenwick tree has to be rebuilt.
+            directory = Arrays.copyOf(directory, nodes * 2);
+            capacityBefore = Arrays.copyOf(capacityBefore, nodes * 2 + 1);
+            nodeSizes = Arrays.copyOf(nodeSizes, nodes * 2);
+            sizeTree = new int[nodes * 2 + 1];
+            rebuildSizeTree();
+        }
 
-        Node<E> rightmostNode = finish.node.prev;
+        Node<E> newNode = new Node();
+        newNode.values = values;
+        newNode.index = nodes;
+        directory[nodes] = newNode;
+        nodeSizes[nodes] = 0;
+        capacityBefore[nodes + 1] = capacityBefore[nodes] + values.length;
+        nodes++;
+        cap = capacityBefore[nodes];
+        updateCompactAt();
 
-        while(rightmostNode.prev != head && rightmostNode.isFull()) rightmostNode = rightmostNode.prev;
+        newNode.next = tail;
+        tail.prev.next = newNode;
+        newNode.prev = tail.prev;
+        tail.prev = newNode;
 
-        // Then, identify the index of the first null slot in this node.
+        return newNode;
+    }
 
-        int firstNullOffset = rightmostNode.size;
+    /**
+     * Copies the first {@code count} entries of {@code elements} onto the end of the list, after the last node
+     * holding any elements. Grows the node chain up front so that everything fits, then fills each node with a
+     * single block copy. Callers are responsible for {@code null} checks and {@code modCount}.
+     * 
+     * @param elements the elements to append
+     * @param count the number of elements to append
+     */
+    private void append(Object[] elements, int count) {
 
-        // Finally, find the next logical index in the list and move this element to the empty slot,
-        // doing this until we reach finish.
+        int last = lastOccupied();
 
-        NodeInfo placeholder1 = new NodeInfo(rightmostNode, firstNullOffset);
-        NodeInfo placeholder2 = new NodeInfo(rightmostNode.next, 0);
+        // Count the free slots after the last element, adding nodes until there are enough.
 
-        // this node will grow by a size of 1, so premptively increase the size.
-        placeholder1.node.setSize(placeholder1.node.size + 1);
+        int room = last < 0 ? cap : cap - capacityBefore[last] - nodeSizes[last];
+        while(room < count) room += appendNode().values.length;
 
-        // We know all slots in all nodes up to and including finish are filled, so we can start here and
-        // increment up to finish.
+        Node<E> curr = directory[Math.max(last, 0)];
+        int copied = 0;
 
-        while(!placeholder2.equals(finish)) {
+        while(copied < count) {
+            int run = Math.min(count - copied, curr.values.length - curr.size);
 
-            placeholder1.node.values[placeholder1.offset] = placeholder2.node.values[placeholder2.offset];
-            placeholder1 = placeholder2;
+            System.arraycopy(elements, copied, curr.values, curr.size, run);
+            curr.setSize(curr.size + run);
+            copied += run;
 
-            // Check if we're at the end of the node in placeholder2
-            if(placeholder2.node.values.length - 1 == placeholder2.offset) {
-                placeholder2 = new NodeInfo(placeholder2.node.next, 0);
-            } else {
-                placeholder2 = new NodeInfo(placeholder2.node, placeholder2.offset + 1);
-            }
+            curr = curr.next;
         }
 
-        // Shift the final element
-        placeholder1.node.values[placeholder1.offset] = placeholder2.node.values[placeholder2.offset];
-        // make space in size for the next element. 
-        placeholder2.node.setSize(placeholder2.node.size - 1);
+        size += count;
     }
 
     /**
-     * Shift each element (starting with the element at {@code index}) to the right.
-     * Leaves a final duplicate of the element at {@code index} which can be ignored for these use cases (adding
-     * to the list)
+     * Gets the number of nodes in the list. For use by {@link DoublingListWriter}.
      * 
-     * @param index the logical index where the shift should occur
+     * @return the number of nodes
      */
-    private void rightShift(int index) {
+    int nodeCount() {
+        return nodes;
+    }
 
-        NodeInfo finish = find(index);
-        // assume there is a node after finish.node that has an empty space.
-        // then, shift each element with a logical index >= that of startPoint to the right by one.
+    /**
+     * Gets the number of elements in node {@code node}. For use by {@link DoublingListWriter}.
+     * 
+     * @param node the position of the node in the chain (0 for the first node)
+     * @return the node's size
+     */
+    int nodeSize(int node) {
+        return directory[node].size;
+    }
 
-        // First, identify the leftmost node that is after this node that has space.
+    /**
+     * Gets the array backing node {@code node}, not a copy of it. The node's elements are in slots
+     * {@code 0} to {@code nodeSize(node) - 1}. For use by {@link DoublingListWriter}.
+     * 
+     * @param node the position of the node in the chain (0 for the first node)
+     * @return the node's array
+     */
+    Object[] nodeValues(int node) {
+        closeGap();
+        return directory[node].values;
+    }
+
+    /**
+     * Links a node onto the end of the chain which takes ownership of {@code values}, holding its first
+     * {@code count} entries. This rebuilds a list node by node, without going through {@link #add(Object)}.
+     * For use by {@link DoublingListReader}, which is responsible for {@code null} checks.
+     * 
+     * @throws IllegalArgumentException if {@code values} doesn't have the length the growth policy gives node
+     * {@code nodeCount()}, or {@code count} is out of the bounds {@code 0} to {@code values.length}
+     * @throws IllegalStateException if the growth policy gives the node a capacity of less than {@code 1}
+     * @param values the array for the new node
+     * @param count the number of elements at the start of {@code values}
+     */
+    void restoreNode(Object[] values, int count) {
 
-        Node<E> leftmostNode = finish.node;
+        if(values.length != nodeCapacity(nodes) || count < 0 || count > values.length)
+            throw new IllegalArgumentException("Node " + nodes + " can't hold " + count + " of " + values.length + " slots.");
 
-        while(leftmostNode.isFull()) leftmostNode = leftmostNode.next;
+        modCount++;
+        closeGap();
+        appendNode((E[]) values).setSize(count);
+        size += count;
+    }
 
-        // Then, identify the index of the first null slot in this node.
+    /**
+     * Unlinks every node from the chain and resets the node index. Does not touch {@code size}.
+     */
+    private void clearNodes() {
+        gapNode = null;
+        head.next = tail;
+        tail.prev = head;
+        Arrays.fill(directory, 0, nodes, null);
+        Arrays.fill(sizeTree, 0);
+        cap = 0;
+        nodes = 0;
+        denseNodes = 0;
+        updateCompactAt();
+    }
 
-        int firstNullOffset = leftmostNode.size;
+    /**
+     * Records a change of {@code delta} elements in the node at position {@code nodeIndex} in the Fenwick tree.
+     * 
+     * @param nodeIndex the position of the node in the chain (0 for the first node)
+     * @param delta the change in the node's size
+     */
+    private void updateSizeTree(int nodeIndex, int delta) {
+        for(int i = nodeIndex + 1; i < sizeTree.length; i += i & -i) sizeTree[i] += delta;
+    }
 
-        // Finally, find the previous logical index in the list and move this element to the empty slot,
-        // doing this until we reach finish
+    /**
+     * Rebuilds the Fenwick tree from {@code nodeSizes} in {@code O(nodes)}: the sizes are copied in, then each
+     * entry is added into the one above it, in a single forward pass.
+     */
+    private void rebuildSizeTree() {
 
-        NodeInfo placeholder2;
+        Arrays.fill(sizeTree, 0);
+        System.arraycopy(nodeSizes, 0, sizeTree, 1, nodes);
 
-        NodeInfo placeholder1 = new NodeInfo(leftmostNode, firstNullOffset);
-        if(firstNullOffset == 0)
-            placeholder2 = new NodeInfo(leftmostNode.prev, leftmostNode.prev.size - 1);
-        else
-            placeholder2 = new NodeInfo(leftmostNode, firstNullOffset - 1);
+        for(int i = 1; i < sizeTree.length; ++i) {
+            int parent = i + (i & -i);
+            if(parent < sizeTree.length) sizeTree[parent] += sizeTree[i];
+        }
+    }
 
-        // Premtively increase placeholder1's node's size
-        placeholder1.node.setSize(placeholder1.node.size + 1);
-            
-        // We know all slots in all nodes up to and including finish are filled, so we can start here and
-        // move backward through the list to finish.
+    /**
+     * Gets the position of the last node holding any elements.
+     * 
+     * @return the position of the node, or {@code -1} if every node is empty
+     */
+    private int lastOccupied() {
 
-        while(!placeholder2.equals(finish)) {
+        int k = nodes - 1;
+        while(k >= 0 && nodeSizes[k] == 0) k--;
 
-            placeholder1.node.values[placeholder1.offset] = placeholder2.node.values[placeholder2.offset];
-            placeholder1 = placeholder2;
+        return k;
+    }
 
-            // Check if we're at the front of the node in placeholder2
-            if(placeholder2.offset == 0) {
-                placeholder2 = new NodeInfo(placeholder2.node.prev, placeholder2.node.prev.size - 1);
-            } else {
-                placeholder2 = new NodeInfo(placeholder2.node, placeholder2.offset - 1);
-            }
-        }
+    /**
+     * Gets the position of the last node before position {@code nodeIndex} with a free slot.
+     * 
+     * @param nodeIndex the position to search back from (exclusive)
+     * @return the position of the node, or {@code -1} if every node before {@code nodeIndex} is full
+     */
+    private int roomBefore(int nodeIndex) {
 
-        // Shift the final element
-        placeholder1.node.values[placeholder1.offset] = placeholder2.node.values[placeholder2.offset];
-        placeholder2.node.setSize(placeholder2.node.size - 1);
+        int k = nodeIndex - 1;
+        while(k >= 0 && capacityBefore[k] + nodeSizes[k] == capacityBefore[k + 1]) k--;
 
+        return k;
     }
 
     /**
-     * Fetches the {@link DoublingList#NodeInfo} object (node and offset) of a
-     * given {@code logicalIndex}.
+     * Gets the position of the first node at or after position {@code nodeIndex} with a free slot.
      * 
-     * @param logicalIndex the logicalIndex to locate
-     * @return the {@code NodeInfo} that corresponds to the given {@code logicalIndex} 
+     * @param nodeIndex the position to search forward from (inclusive)
+     * @return the position of the node, or {@code nodes} if every node from {@code nodeIndex} on is full
      */
-    private NodeInfo find(int logicalIndex) {
+    private int roomFrom(int nodeIndex) {
 
-        // Edge case handling
-        if(logicalIndex < 0 || logicalIndex >= size) throw new IndexOutOfBoundsException("Index " + logicalIndex + " out of bounds for cap " + cap + ".");
+        int k = nodeIndex;
+        while(k < nodes && capacityBefore[k] + nodeSizes[k] == capacityBefore[k + 1]) k++;
 
-        Node<E> curr = head.next;
-        int cumulativeSize = 0;
+        return k;
+    }
 
-        while (curr != tail) {
-            if(cumulativeSize + curr.size > logicalIndex) {
-                // The logicalIndex is in this node.
-                return new NodeInfo(curr, logicalIndex - cumulativeSize);
-            }
+    /**
+     * Updates {@code denseNodes} after the size of the node at position {@code nodeIndex} changes. A node
+     * with free slots cuts the run of full nodes short; filling the node just after the run extends it over
+     * every full node that follows. Does nothing unless the list is sized by doubling, which keeps the run to
+     * at most 31 nodes.
+     * 
+     * @param nodeIndex the position of the node in the chain (0 for the first node)
+     */
+    private void updateDensePrefix(int nodeIndex) {
 
-            cumulativeSize += curr.size;
-            curr = curr.next;
+        if(!doubling) return;
+
+        if(!directory[nodeIndex].isFull()) denseNodes = Math.min(denseNodes, nodeIndex);
+        else if(nodeIndex == denseNodes) {
+            while(denseNodes < nodes && directory[denseNodes].isFull()) denseNodes++;
         }
+    }
 
-        throw new NoSuchElementException("Logical index " + logicalIndex + " not found in the list. This should not happen.");
+    /**
+     * Sets {@code compactAt} to the capacity of every node but the last two, after the nodes or the reserved
+     * capacity change. Compacting always drops at least the last node, so if the nodes before it can't hold
+     * the reserved capacity, the list isn't compacted at all.
+     */
+    private void updateCompactAt() {
+
+        compactAt = capacityBefore[Math.max(nodes - 1, 0)] < reserved ? -1 : capacityBefore[Math.max(nodes - 2, 0)];
     }
 
     /**
@@ -421,6 +1480,8 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
         if(size() == 0) return "[]";
 
+        closeGap();
+
         StringBuilder builder = new StringBuilder("[");
 
         Node<E> curr = head;
@@ -456,6 +1517,8 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
     public String toStringInternal(ListIterator iter) {
         if(size() == 0) return "[]";
 
+        closeGap();
+
         int logicalIndex = 0;
         StringBuilder builder = new StringBuilder("[");
 
@@ -489,39 +1552,78 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
     }
     
     /**
-     * Compacts the list down to save memory. To be used by {@link #remove(int)}.
+     * Compacts the list down to save memory. To be used by {@link #remove(int)} (with one spare node) and
+     * {@link #trimToSize()} (with none).
+     * 
+     * The result is the same as re-adding every element to an empty list and then adding {@code spareNodes}
+     * extra empty nodes (or enough to keep the capacity reserved by {@link #ensureCapacity(int)}), but since
+     * the growth policy always gives node {@code i} the same capacity, the existing node arrays are reused:
+     * elements are packed towards the front in place with block copies, and the now unneeded trailing nodes
+     * are unlinked. Nothing is allocated and no element is looked up by index.
+     * 
+     * @param spareNodes the number of empty nodes to keep after those holding elements
      */
-    private void compact() {
-        // List has too much empty space spread across nodes, so compact this list.
+    private void compact(int spareNodes) {
 
-        // Save the old list
-        Node<E> curr = head.next, working = new Node(1);
+        closeGap();
 
-        // Setup like a new list
-        head.next = tail;
-        tail.prev = head;
-        size = 0;
-        nodes = 0;
-        cap = 0;
+        // Packing only ever moves an element to an earlier (or the same) slot, so a single forward sweep never
+        // overwrites an element that hasn't been read yet.
 
-        // Loop through the old list and add each element to the new list.
+        int to = 0, toOffset = 0;
 
-        while(curr != tail) {
-            for(int i = 0; i < curr.size; ++i) {
-                this.add(curr.values[i]);
+        for(int from = 0; from < nodes; ++from) {
+
+            Node<E> fromNode = directory[from];
+            int fromOffset = 0;
+
+            while(fromOffset < fromNode.size) {
+                Node<E> toNode = directory[to];
+                int run = Math.min(fromNode.size - fromOffset, toNode.values.length - toOffset);
+
+                System.arraycopy(fromNode.values, fromOffset, toNode.values, toOffset, run);
+                fromOffset += run;
+                toOffset += run;
+
+                if(toOffset == toNode.values.length) {
+                    to++;
+                    toOffset = 0;
+                }
             }
-            curr = curr.next;
         }
 
-        // Add the extra empty node on the end
-        Node<E> newNode = new Node((int) Math.pow(2, nodes));
-        nodes++;
-        cap = (int) Math.pow(2, nodes) - 1;
+        // Keep just enough nodes to hold every element (and the reserved capacity), plus the spare nodes.
+        int kept = 0, reservedNodes = 0;
+        while(capacityBefore[kept] < size) kept++;
+        while(capacityBefore[reservedNodes] < reserved) reservedNodes++;
 
-        newNode.next = tail;
-        tail.prev.next = newNode;
-        newNode.prev = tail.prev;
-        tail.prev = newNode;
+        kept = Math.max(kept + spareNodes, reservedNodes);
+
+        for(int i = 0; i < kept; ++i) {
+            Node<E> node = directory[i];
+
+            if(i < to) node.size = node.values.length;
+            else if(i == to) node.size = toOffset;
+            else node.size = 0;
+
+            nodeSizes[i] = node.size;
+
+            Arrays.fill(node.values, node.size, node.values.length, null);
+        }
+
+        for(int i = kept; i < nodes; ++i) directory[i] = null;
+
+        directory[kept - 1].next = tail;
+        tail.prev = directory[kept - 1];
+        nodes = kept;
+        cap = capacityBefore[nodes];
+        updateCompactAt();
+
+        // Sizes were set directly above, so rebuild the Fenwick tree and the dense prefix from scratch.
+        rebuildSizeTree();
+
+        denseNodes = 0;
+        updateDensePrefix(0);
     }
 
     /**
@@ -533,7 +1635,10 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
     private class Node<E> {
         E[] values;
         Node<E> next, prev;
-        int size = 0;
+        int size = 0, index = -1;
+
+        // Where the free slots start while this is the list's gapNode, or -1 while they're at the end.
+        int gap = -1;
 
         /**
          * Creates a node with a values array of length 0.
@@ -560,7 +1665,13 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
          */
         void setSize(int size) {
             if(size > values.length) throw new IndexOutOfBoundsException("size > length of values");
+            if(index >= 0) {
+                updateSizeTree(index, size - this.size);
+                nodeSizes[index] = size;
+            }
+
             this.size = size;
+            if(index >= 0) updateDensePrefix(index);
         }
 
         /**
@@ -583,9 +1694,7 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
             if(isFull()) throw new IllegalStateException("The array is full.");
 
-            for(int i = this.size - 1; i >= offset; --i) {
-                values[i + 1] = values[i]; 
-            }
+            System.arraycopy(values, offset, values, offset + 1, this.size - offset);
         }
 
         /**
@@ -597,18 +1706,57 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
          */
         void removeShift(int offset) {
 
-            for(int i = offset + 1; i < this.size + 1; ++i) {
-                values[i - 1] = values[i]; 
-            }
+            System.arraycopy(values, offset + 1, values, offset, this.size - offset);
 
             values[this.size] = null;
         }
 
+        /**
+         * Gets the slot in the {@code values} array holding the element at {@code offset}, which is
+         * {@code offset} itself unless the element is after this node's gap.
+         * 
+         * @param offset the offset of the element in the node
+         * @return the index of the element in {@code values}
+         */
+        int physical(int offset) {
+            return gap < 0 || offset < gap ? offset : offset + values.length - size;
+        }
+
+        /**
+         * Moves the gap so that it starts at {@code offset}, moving the elements between there and where it
+         * started across it, and clearing the slots they leave behind. For use while this is the list's
+         * {@code gapNode}.
+         * 
+         * @param offset the offset (from {@code 0} to {@code size}) for the gap to start at
+         */
+        void moveGap(int offset) {
+
+            int free = values.length - size;
+
+            if(offset < gap) {
+                System.arraycopy(values, offset, values, offset + free, gap - offset);
+                Arrays.fill(values, offset, Math.min(gap, offset + free), null);
+            } else if(offset > gap) {
+                System.arraycopy(values, gap + free, values, gap, offset - gap);
+                Arrays.fill(values, Math.max(gap + free, offset), offset + free, null);
+            }
+
+            gap = offset;
+        }
+
     }
 
     /**
      * A list iterator for the {@link DoublingList} object.
      * 
+     * The iterator carries a cursor (a node and an offset) pointing at the element at {@code nextIndex}, so
+     * {@code next()} and {@code previous()} step through the node arrays directly. The iterator is fail-fast:
+     * once the list has been structurally modified other than through this iterator (which {@code modCount}
+     * tracks), every method except {@code hasNext()}, {@code hasPrevious()}, {@code nextIndex()} and
+     * {@code previousIndex()} throws a {@code ConcurrentModificationException}, so the cursor is never
+     * trusted after the elements under it may have moved. The iterator's own {@code add(E)} and
+     * {@code remove()} re-locate the cursor with {@link DoublingList#find(int, NodeInfo)}.
+     * 
      * @author Jackson Eshbaugh
      * @version 04/09/2024
      */
@@ -619,6 +1767,12 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
         private boolean removeCalled = false, addCalled = false;
         private DoublingList list;
 
+        // The node and offset of the element at nextIndex (tail when nextIndex == size()), and of the
+        // element last returned by next() or previous(). Both are only valid while expectedModCount == modCount.
+        private Node<E> cursorNode, lastNode;
+        private int cursorOffset, lastOffset;
+        private int expectedModCount;
+
         
         /**
          * Creates a new DoublingListIterator that starts at
@@ -628,6 +1782,7 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
          */
         public DoublingListIterator(DoublingList list) {
             this.list = list;
+            seek();
         }
         
         /**
@@ -639,6 +1794,7 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
         public DoublingListIterator(DoublingList list, int nextIndex) {
             this.nextIndex = nextIndex;
             this.list = list;
+            seek();
         }
         
         @Override
@@ -648,16 +1804,25 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
         @Override
         public E next() {
+            checkForComodification();
             if (!hasNext()) throw new NoSuchElementException("No next element exists.");
-            
-            NodeInfo info = list.find(nextIndex);
+
+            lastNode = cursorNode;
+            lastOffset = cursorOffset;
+
+            // Step forward, skipping over any empty nodes.
+            cursorOffset++;
+            while(cursorNode != tail && cursorOffset >= cursorNode.size) {
+                cursorNode = cursorNode.next;
+                cursorOffset = 0;
+            }
             
             nextIndex++;
             previousLastCalled = false;
             nextLastCalled = true;
             removeCalled = false;
             addCalled = false;
-            return info.node.values[info.offset];
+            return lastNode.values[lastNode.physical(lastOffset)];
         }
 
         @Override
@@ -667,15 +1832,25 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
 
         @Override
         public E previous() {
+            checkForComodification();
             if (!hasPrevious()) throw new NoSuchElementException("No previous element exists.");
 
+            // Step backward, skipping over any empty nodes.
             nextIndex--;
-            NodeInfo info = list.find(nextIndex);
+            cursorOffset--;
+            while(cursorOffset < 0) {
+                cursorNode = cursorNode.prev;
+                cursorOffset = cursorNode.size - 1;
+            }
+
+            lastNode = cursorNode;
+            lastOffset = cursorOffset;
+
             previousLastCalled = true;
             nextLastCalled = false;
             removeCalled = false;
             addCalled = false;
-            return info.node.values[info.offset];
+            return cursorNode.values[cursorNode.physical(cursorOffset)];
         }
 
         @Override
@@ -697,11 +1872,14 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
             if(addCalled || removeCalled)
                 throw new IllegalStateException("You can't call add(E) or remove() before invoking this method without calling next() or previous().");
 
+            checkForComodification();
+
             int index = nextLastCalled ? nextIndex - 1 : nextIndex;
             list.remove(index);
             removeCalled = true;
 
             if(nextLastCalled) nextIndex--;
+            seek();
         }
 
         @Override
@@ -709,25 +1887,265 @@ public class DoublingList<E> extends AbstractSequentialList<E> {
             if(!nextLastCalled && !previousLastCalled) throw new IllegalStateException("You must call next() or previous() before invoking this method.");
             if(addCalled || removeCalled) throw new IllegalStateException("You can't call add(E) or remove() before invoking this method without calling next() or previous().");
 
-            if(nextLastCalled) {
-                // replace the previous value with element.
-                NodeInfo info = list.find(nextIndex - 1);
-                info.node.values[info.offset] = element;
-                return;
-            }
+            checkForComodification();
 
-            // replace the next value with element.
-            NodeInfo info = list.find(nextIndex);
-            info.node.values[info.offset] = element;
+            // The last returned element hasn't moved.
+            lastNode.values[lastNode.physical(lastOffset)] = element;
         }
 
         @Override
         public void add(E element) {
+            checkForComodification();
+
             list.add(nextIndex, element);
             nextIndex++;
+            seek();
 
             addCalled = true;
         }
+
+        /**
+         * Throws if the list has been structurally modified other than through this iterator.
+         * 
+         * @throws ConcurrentModificationException if {@code modCount} has changed since the iterator last saw it
+         */
+        private void checkForComodification() {
+            if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified outside of this iterator.");
+        }
+
+        /**
+         * Locates the cursor at {@code nextIndex}, when the iterator is created or after it has structurally
+         * modified the list itself.
+         */
+        private void seek() {
+
+            if(nextIndex == size()) {
+                cursorNode = tail;
+                cursorOffset = 0;
+            } else {
+                NodeInfo info = find(nextIndex, new NodeInfo(null, 0));
+                cursorNode = info.node;
+                cursorOffset = info.offset;
+            }
+
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * A spliterator for the {@link DoublingList} object.
+     * 
+     * Covers {@code remaining} elements starting at {@code offset} in {@code node}. Splitting hands the first
+     * part of that range to a new spliterator, cutting at the node boundary nearest the middle when that
+     * leaves each side at least a quarter of the elements, and at the middle of a node's array otherwise.
+     * 
+     * @author Jackson Eshbaugh
+     * @version 10/18/2026
+     */
+    private class DoublingListSpliterator implements Spliterator<E> {
+
+        private Node<E> node;
+        private int offset, remaining;
+        private final int expectedModCount;
+
+        /**
+         * Creates a spliterator over {@code remaining} elements, starting at {@code offset} in {@code node}.
+         * 
+         * @param node the node holding the first element (or an empty node before it)
+         * @param offset the offset of the first element in {@code node}
+         * @param remaining the number of elements covered
+         * @param expectedModCount the {@code modCount} the list must keep for the traversal to be valid
+         */
+        DoublingListSpliterator(Node<E> node, int offset, int remaining, int expectedModCount) {
+            this.node = node;
+            this.offset = offset;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+
+            if(action == null) throw new NullPointerException();
+            if(remaining == 0) return false;
+
+            while(offset >= node.size) {
+                node = node.next;
+                offset = 0;
+            }
+
+            E element = node.values[offset++];
+            remaining--;
+
+            if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during traversal.");
+
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+
+            if(action == null) throw new NullPointerException();
+
+            // Hand over each node's run of elements straight from its array.
+            while(remaining > 0) {
+                int run = Math.min(node.size - offset, remaining);
+                E[] values = node.values;
+
+                for(int i = offset; i < offset + run; ++i) action.accept(values[i]);
+
+                remaining -= run;
+                node = node.next;
+                offset = 0;
+            }
+
+            if(expectedModCount != modCount) throw new ConcurrentModificationException("The list was modified during traversal.");
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+
+            if(remaining < 2) return null;
+
+            // Find the node boundary closest to the middle of the range.
+
+            int half = remaining / 2, before = 0, boundary = 0;
+            Node<E> curr = node, boundaryNode = node;
+            int currOffset = offset;
+
+            while(before < remaining) {
+                int run = Math.min(curr.size - currOffset, remaining - before);
+
+                if(Math.abs(before - half) < Math.abs(boundary - half)) {
+                    boundary = before;
+                    boundaryNode = curr;
+                }
+
+                before += run;
+                curr = curr.next;
+                currOffset = 0;
+            }
+
+            DoublingListSpliterator prefix;
+
+            if(boundary >= remaining / 4 && boundary > 0) {
+                prefix = new DoublingListSpliterator(node, offset, boundary, expectedModCount);
+                node = boundaryNode;
+                offset = 0;
+                remaining -= boundary;
+            } else {
+                // No boundary near the middle, so cut the node holding it in two.
+                prefix = new DoublingListSpliterator(node, offset, half, expectedModCount);
+                skip(half);
+            }
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        /**
+         * Moves the start of the range forward by {@code count} elements.
+         * 
+         * @param count the number of elements to skip
+         */
+        private void skip(int count) {
+
+            remaining -= count;
+            count += offset;
+
+            while(count >= node.size && node.next != tail) {
+                count -= node.size;
+                node = node.next;
+            }
+
+            offset = count;
+        }
+    }
+
+    /**
+     * A run of elements within a single node, {@code node.values[from]} to {@code node.values[to - 1]}, worked
+     * on by one task of a parallel bulk operation.
+     * 
+     * @author Jackson Eshbaugh
+     * @version 10/18/2026
+     */
+    private class Segment {
+
+        public final Node<E> node;
+        public final int from, to, start;
+
+        // Combined into each element of this segment by parallelPrefix, or null for the first segment.
+        public E carry;
+
+        /**
+         * Creates a new {@code Segment}.
+         * 
+         * @param node the node the elements are in
+         * @param from the offset of the first element in {@code node}
+         * @param to the offset after the last element in {@code node}
+         * @param start the index of the first element in the list
+         */
+        public Segment(Node<E> node, int from, int to, int start) {
+            this.node = node;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+        }
+
+    }
+
+    /**
+     * Does some work on each of {@code segments[lo]} to {@code segments[hi - 1]}, splitting the range in half
+     * between two subtasks until a single segment is left.
+     * 
+     * @author Jackson Eshbaugh
+     * @version 10/18/2026
+     */
+    private class SegmentTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Segment[] segments;
+        private final int lo, hi;
+        private final Consumer<Segment> work;
+
+        /**
+         * Creates a task working on {@code segments[lo]} to {@code segments[hi - 1]}.
+         * 
+         * @param segments the segments
+         * @param lo the index of the first segment to work on
+         * @param hi the index after the last segment to work on
+         * @param work the work to do on each segment
+         */
+        SegmentTask(Segment[] segments, int lo, int hi, Consumer<Segment> work) {
+            this.segments = segments;
+            this.lo = lo;
+            this.hi = hi;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+
+            if(hi - lo == 1) {
+                work.accept(segments[lo]);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SegmentTask(segments, lo, mid, work), new SegmentTask(segments, mid, hi, work));
+        }
+
     }
 
     /**
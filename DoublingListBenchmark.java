@@ -0,0 +1,582 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A rough timing driver for {@link DoublingList}. Not a replacement for a real harness (no forking,
+ * no dead-code protection beyond a checksum), but enough to compare orders of magnitude.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class DoublingListBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3, MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs each benchmark at each list size and prints the average time per operation.
+     *
+     * @param args optionally, the list sizes to benchmark with (defaults to {@code 1_000}, {@code 1_000_000}
+     * and {@code 10_000_000}; pass {@code 100000000} with a large heap to compare GC time and parallel
+     * streams at 100M elements)
+     */
+    public static void main(String[] args) {
+
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : new int[] {1_000, 1_000_000, 10_000_000};
+
+        for(int n : sizes) {
+
+            System.out.println("Benchmarking with " + n + " elements");
+
+            DoublingList<Integer> doubling = new DoublingList<>();
+            List<Integer> array = new ArrayList<>();
+            for(int i = 0; i < n; ++i) {
+                doubling.add(i);
+                array.add(i);
+            }
+
+            int reads = Math.min(n, 1_000_000), shifts = n >= 10_000_000 ? 100 : 1_000;
+
+            report("random get, DoublingList", randomGets(doubling, reads));
+            report("random get, ArrayList", randomGets(array, reads));
+            if(n <= 1_000_000) report("random get, LinkedList", randomGets(new LinkedList<>(array), 1_000));
+            report("full iteration, DoublingList", iteration(doubling));
+            report("full iteration, ArrayList", iteration(array));
+            report("add(size / 2, e), DoublingList", middleAdds(doubling, shifts));
+            report("add(size / 2, e), ArrayList", middleAdds(array, shifts));
+            report("remove(size / 2), DoublingList", middleRemoves(doubling, shifts));
+            report("remove(size / 2), ArrayList", middleRemoves(array, shifts));
+
+            // Small fixed-size nodes make for thousands of nodes, so lookups and the search for a node with a
+            // free slot dominate rather than the block copies.
+            DoublingList<Integer> chunked = new DoublingList<>(GrowthPolicy.fixed(64));
+            chunked.addAll(array);
+            report("random get, DoublingList fixed(64)", randomGets(chunked, reads));
+            report("add(size / 2, e), DoublingList fixed(64)", middleAdds(chunked, shifts));
+
+            report("stream map/sum, DoublingList", streamSum(doubling, false));
+            report("parallel map/sum, DoublingList", streamSum(doubling, true));
+            report("parallel map/sum, ArrayList", streamSum(array, true));
+
+            for(int parallelism = 1; parallelism <= Runtime.getRuntime().availableProcessors(); parallelism *= 2)
+                parallelBulk(doubling, parallelism);
+
+            report("queue offer/poll, DoublingDeque", queueChurn(new DoublingDeque<>(), n));
+            report("queue offer/poll, ArrayDeque", queueChurn(new ArrayDeque<>(), n));
+
+            report("evict 1% prefix, DoublingList", prefixEvictions(doubling));
+            report("evict 1% prefix, ArrayList", prefixEvictions(array));
+            report("load by add(E), DoublingList", load(array, false));
+            report("load by addAll, DoublingList", load(array, true));
+
+            removeLatencies(Math.min(n, 1_000_000));
+            report("remove near end of full list, DoublingList", fullListRemoves(new DoublingList<>(), n));
+            report("remove near end of full list, ArrayList", fullListRemoves(new ArrayList<>(), n));
+            snapshot(n);
+
+            for(int readPercent : new int[] {100, 90, 50}) {
+                for(int threads = 1; threads <= 32; threads *= 2) {
+                    concurrentMix("ConcurrentDoublingList", new ConcurrentDoublingList<>(), Math.min(n, 100_000), threads, readPercent);
+                    concurrentMix("synchronized DoublingList", Collections.synchronizedList(new DoublingList<>()), Math.min(n, 100_000), threads, readPercent);
+                }
+            }
+
+            doubling = null;
+            chunked = null;
+            array = null;
+            gcCost("GC time, DoublingList<Long>", new DoublingList<Long>(), n);
+            try(OffHeapDoublingList<Long> offHeap = new OffHeapDoublingList<>(RecordCodec.LONG)) {
+                gcCost("GC time, OffHeapDoublingList<Long>", offHeap, n);
+            }
+        }
+
+        System.out.println("Editing at a cursor, 1000000 inserts");
+        report("cursor inserts, DoublingList", cursorInserts(false, 1_000_000));
+        report("cursor inserts, gap-buffered DoublingList", cursorInserts(true, 1_000_000));
+    }
+
+    /**
+     * Times {@code ops} reads at random indices.
+     *
+     * @param list the list to read from
+     * @param ops the number of reads to perform per round
+     * @return the average nanoseconds per read
+     */
+    private static double randomGets(List<Integer> list, int ops) {
+
+        int[] indices = new Random(42).ints(ops, 0, list.size()).toArray();
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+            for(int i : indices) checksum += list.get(i);
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Times a full forward iteration over the list.
+     *
+     * @param list the list to iterate over
+     * @return the average nanoseconds per element
+     */
+    private static double iteration(List<Integer> list) {
+
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+            for(Integer i : list) checksum += i;
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / list.size();
+    }
+
+    /**
+     * Times {@code ops} insertions into the middle of the list, removing them again (untimed) after each round.
+     *
+     * @param list the list to insert into
+     * @param ops the number of insertions to perform per round
+     * @return the average nanoseconds per insertion
+     */
+    private static double middleAdds(List<Integer> list, int ops) {
+
+        long elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+            for(int i = 0; i < ops; ++i) list.add(list.size() / 2, i);
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+
+            for(int i = 0; i < ops; ++i) list.remove(list.size() / 2);
+        }
+
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Times {@code ops} removals from the middle of the list, adding them back (untimed) after each round.
+     *
+     * @param list the list to remove from
+     * @param ops the number of removals to perform per round
+     * @return the average nanoseconds per removal
+     */
+    private static double middleRemoves(List<Integer> list, int ops) {
+
+        long elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+            for(int i = 0; i < ops; ++i) list.remove(list.size() / 2);
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+
+            for(int i = 0; i < ops; ++i) list.add(list.size() / 2, i);
+        }
+
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Times a stream which doubles every element and sums the results, sequentially or in parallel.
+     *
+     * @param list the list to stream
+     * @param parallel {@code true} to use {@code parallelStream()}
+     * @return the average nanoseconds per element
+     */
+    private static double streamSum(List<Integer> list, boolean parallel) {
+
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+            checksum += (parallel ? list.parallelStream() : list.stream()).mapToLong(i -> i * 2L).sum();
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / list.size();
+    }
+
+    /**
+     * Times {@code parallelReplaceAll}, {@code parallelSort} and {@code parallelPrefix} run in a pool of
+     * {@code parallelism} worker threads, and prints the time per element of each. Each round scrambles the
+     * list with {@code parallelReplaceAll}, sorts it, then takes running sums; the list is left holding
+     * {@code 0} to {@code size - 1} again afterwards.
+     *
+     * @param list the list to work on, holding {@code 0} to {@code size - 1}
+     * @param parallelism the number of worker threads
+     */
+    private static void parallelBulk(DoublingList<Integer> list, int parallelism) {
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long[] elapsed = new long[3];
+
+        pool.submit(() -> {
+            for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+                long start = System.nanoTime();
+                list.parallelReplaceAll(i -> i * 0x9E3779B1);
+                long scrambled = System.nanoTime();
+                list.parallelSort(null);
+                long sorted = System.nanoTime();
+                list.parallelPrefix(Integer::sum);
+                long summed = System.nanoTime();
+
+                if(round >= WARMUP_ROUNDS) {
+                    elapsed[0] += scrambled - start;
+                    elapsed[1] += sorted - scrambled;
+                    elapsed[2] += summed - sorted;
+                }
+
+                list.parallelReplaceAll(i -> 1);
+                list.parallelPrefix(Integer::sum);
+                list.parallelReplaceAll(i -> i - 1);
+            }
+        }).join();
+
+        pool.shutdown();
+
+        report("parallelReplaceAll, " + parallelism + " workers", (double) elapsed[0] / MEASURED_ROUNDS / list.size());
+        report("parallelSort, " + parallelism + " workers", (double) elapsed[1] / MEASURED_ROUNDS / list.size());
+        report("parallelPrefix, " + parallelism + " workers", (double) elapsed[2] / MEASURED_ROUNDS / list.size());
+    }
+
+    /**
+     * Fills {@code deque} with {@code n} elements, then times it being used as a work queue: each operation
+     * adds an element at one end (mostly the tail, sometimes the head, as a retried item would be) and takes
+     * one from the head.
+     *
+     * @param deque the (empty) deque to use
+     * @param n the number of elements to keep queued
+     * @return the average nanoseconds per add and poll pair
+     */
+    private static double queueChurn(Deque<Integer> deque, int n) {
+
+        for(int i = 0; i < n; ++i) deque.addLast(i);
+
+        int ops = 1_000_000;
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+
+            for(int i = 0; i < ops; ++i) {
+                if(i % 8 == 0) deque.addFirst(i);
+                else deque.addLast(i);
+                checksum += deque.pollFirst();
+            }
+
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Times {@code ops} inserts through a list iterator, as an editor typing at a cursor would: starting from a
+     * 1000 element list, the cursor jumps to a random index every 1000 inserts, and each insert goes in just
+     * after the one before. Without gap buffering the inserts are quadratic overall, so this runs one
+     * warmup at a tenth of the size and a single measured round rather than the usual rounds.
+     *
+     * @param gapBuffered {@code true} to turn on gap buffering
+     * @param ops the number of elements to insert
+     * @return the average nanoseconds per insert
+     */
+    private static double cursorInserts(boolean gapBuffered, int ops) {
+
+        long elapsed = 0;
+
+        for(int round = 0; round < 2; ++round) {
+            int inserts = round == 0 ? ops / 10 : ops;
+            Random random = new Random(42);
+
+            DoublingList<Integer> list = new DoublingList<>();
+            list.setGapBuffered(gapBuffered);
+            for(int i = 0; i < 1000; ++i) list.add(i);
+
+            long start = System.nanoTime();
+            ListIterator<Integer> cursor = null;
+
+            for(int i = 0; i < inserts; ++i) {
+                if(i % 1000 == 0) cursor = list.listIterator(random.nextInt(list.size()));
+                cursor.add(i);
+            }
+
+            elapsed = System.nanoTime() - start;
+        }
+
+        return (double) elapsed / ops;
+    }
+
+    /**
+     * Times dropping the first 1% of the list with {@code subList(0, k).clear()}, as a sliding window would,
+     * appending the same number of elements (untimed) after each eviction.
+     *
+     * @param list the list to evict from
+     * @return the average nanoseconds per eviction
+     */
+    private static double prefixEvictions(List<Integer> list) {
+
+        int k = Math.max(1, list.size() / 100), ops = 10;
+        List<Integer> refill = new ArrayList<>(list.subList(0, k));
+        long elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            for(int i = 0; i < ops; ++i) {
+                long start = System.nanoTime();
+                list.subList(0, k).clear();
+                if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+
+                list.addAll(refill);
+            }
+        }
+
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Times loading every element of {@code source} into a new {@link DoublingList}.
+     *
+     * @param source the elements to load
+     * @param bulk {@code true} to load with a single {@code addAll}, {@code false} to {@code add} each element
+     * @return the average nanoseconds per element loaded
+     */
+    private static double load(List<Integer> source, boolean bulk) {
+
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+
+            DoublingList<Integer> list = new DoublingList<>();
+            if(bulk) list.addAll(source);
+            else for(Integer i : source) list.add(i);
+
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+            checksum += list.size();
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / source.size();
+    }
+
+    /**
+     * Drains a {@link DoublingList} of {@code n} elements by removing at random indices, timing each removal
+     * individually, and prints the latency percentiles. Compactions show up in the tail.
+     *
+     * @param n the number of elements to fill the list with
+     */
+    private static void removeLatencies(int n) {
+
+        DoublingList<Integer> list = new DoublingList<>();
+        for(int i = 0; i < n; ++i) list.add(i);
+
+        Random random = new Random(42);
+        long[] latencies = new long[n];
+
+        for(int i = 0; i < n; ++i) {
+            int index = random.nextInt(list.size());
+            long start = System.nanoTime();
+            list.remove(index);
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+
+        System.out.printf("%-40s p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns%n", "remove latency, DoublingList",
+            latencies[n / 2], latencies[(int) (n * 0.99)], latencies[(int) (n * 0.999)], latencies[n - 1]);
+    }
+
+    /**
+     * Fills {@code list} to a full node boundary ({@code 2^k - 1} elements, the most not above {@code n}), then
+     * times removals from among the last 64 elements, each followed by an append which fills the list again.
+     * Every removal looks up an index in a list whose nodes are all full, and the shift after it is short, so
+     * the lookup dominates.
+     *
+     * @param list the (empty) list to fill
+     * @param n the most elements to fill the list with
+     * @return the average nanoseconds per removal and append pair
+     */
+    private static double fullListRemoves(List<Integer> list, int n) {
+
+        int full = Integer.highestOneBit(n + 1) - 1, ops = 1_000_000;
+        for(int i = 0; i < full; ++i) list.add(i);
+
+        int[] offsets = new Random(42).ints(ops, 1, Math.min(64, full) + 1).toArray();
+        long checksum = 0, elapsed = 0;
+
+        for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+            long start = System.nanoTime();
+
+            for(int offset : offsets) {
+                checksum += list.remove(full - offset);
+                list.add(offset);
+            }
+
+            if(round >= WARMUP_ROUNDS) elapsed += System.nanoTime() - start;
+        }
+
+        if(checksum == 42) System.out.println();
+        return (double) elapsed / MEASURED_ROUNDS / ops;
+    }
+
+    /**
+     * Writes a {@link DoublingList} of {@code n} longs to a temporary file with {@link DoublingListWriter}, reads
+     * it back with {@link DoublingListReader}, and prints the throughput of each in MB/s. Both should be close
+     * to the bandwidth of the disk (or page cache) holding the file.
+     *
+     * @param n the number of elements to write
+     */
+    private static void snapshot(int n) {
+
+        DoublingList<Long> list = new DoublingList<>();
+        for(long i = 0; i < n; ++i) list.add(i);
+
+        DoublingListWriter<Long> writer = new DoublingListWriter<>(RecordCodec.LONG);
+        DoublingListReader<Long> reader = new DoublingListReader<>(RecordCodec.LONG);
+        long writing = 0, reading = 0, checksum = 0;
+
+        try {
+            Path file = Files.createTempFile("doubling-list", ".bin");
+
+            for(int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; ++round) {
+                long start = System.nanoTime();
+                writer.write(list, file);
+                long middle = System.nanoTime();
+                checksum += reader.read(file).size();
+                long end = System.nanoTime();
+
+                if(round >= WARMUP_ROUNDS) {
+                    writing += middle - start;
+                    reading += end - middle;
+                }
+            }
+
+            Files.delete(file);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if(checksum == 42) System.out.println();
+
+        double megabytes = (double) n * Long.BYTES * MEASURED_ROUNDS / 1e6;
+        System.out.printf("%-40s %10.1f MB/s%n", "snapshot write, DoublingList<Long>", megabytes / (writing / 1e9));
+        System.out.printf("%-40s %10.1f MB/s%n", "snapshot read, DoublingList<Long>", megabytes / (reading / 1e9));
+    }
+
+    /**
+     * Fills {@code list} with {@code n} elements, then has {@code threads} threads share a fixed number of
+     * operations on it: {@code readPercent}% random {@code get}s, and the rest split evenly between {@code add}s
+     * and {@code remove}s at random indices (so the size stays steady). Prints the overall throughput.
+     *
+     * @param name the name of the list
+     * @param list the (empty) list to fill
+     * @param n the number of elements to fill the list with
+     * @param threads the number of threads to run
+     * @param readPercent the percentage of operations which are reads
+     */
+    private static void concurrentMix(String name, List<Integer> list, int n, int threads, int readPercent) {
+
+        for(int i = 0; i < n; ++i) list.add(i);
+
+        int opsPerThread = 400_000 / threads;
+        long[] checksums = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        long start = System.nanoTime();
+
+        for(int t = 0; t < threads; ++t) {
+            int thread = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                for(int i = 0; i < opsPerThread; ++i) {
+                    int operation = random.nextInt(200), index = random.nextInt(n / 2);
+
+                    if(operation < readPercent * 2) checksums[thread] += list.get(index);
+                    else if(operation % 2 == 0) list.add(index, i);
+                    else checksums[thread] += list.remove(index);
+                }
+            });
+            workers[t].start();
+        }
+
+        try {
+            for(Thread worker : workers) worker.join();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if(Arrays.stream(checksums).sum() == 42) System.out.println();
+        System.out.printf("%-40s %10.2f Mops/s (%d threads, %d%% reads)%n", name, opsPerThread * threads / seconds / 1e6, threads, readPercent);
+    }
+
+    /**
+     * Fills {@code list} with {@code n} elements, then forces a few full collections while it is still
+     * reachable, and prints the total time the collectors reported spending. A large on-heap list has to be
+     * traced on every full collection; an off-heap one doesn't.
+     *
+     * @param name the name of the benchmark
+     * @param list the (empty) list to fill
+     * @param n the number of elements to fill the list with
+     */
+    private static void gcCost(String name, List<Long> list, int n) {
+
+        System.gc();
+        long before = totalGcMillis();
+
+        for(long i = 0; i < n; ++i) list.add(i);
+        for(int i = 0; i < 3; ++i) System.gc();
+
+        long elapsed = totalGcMillis() - before;
+        System.out.printf("%-40s %10d ms (list of %d)%n", name, elapsed, list.size());
+    }
+
+    /**
+     * Gets the total time every garbage collector has reported spending, in milliseconds.
+     *
+     * @return the accumulated collection time
+     */
+    private static long totalGcMillis() {
+
+        long total = 0;
+        for(GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+            total += Math.max(0, bean.getCollectionTime());
+
+        return total;
+    }
+
+    /**
+     * Prints a single result line.
+     *
+     * @param name the name of the benchmark
+     * @param nanosPerOp the average time per operation, in nanoseconds
+     */
+    private static void report(String name, double nanosPerOp) {
+        System.out.printf("%-40s %10.1f ns/op%n", name, nanosPerOp);
+    }
+
+}
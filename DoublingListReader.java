@@ -0,0 +1,150 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a {@link DoublingList} written by {@link DoublingListWriter}. Each node is decoded straight into a
+ * new array of the right capacity, which is then handed to the list as is, so reading never goes through
+ * {@link DoublingList#add(Object)} and never moves an element twice.
+ *
+ * The file doesn't record the list's {@link GrowthPolicy}, so a list has to be read with a policy whose nodes
+ * are at least as large as those of the policy it was written with (normally the same one).
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element read
+ */
+public class DoublingListReader<E> {
+
+    private final RecordCodec<E> codec;
+    private final GrowthPolicy policy;
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a reader which decodes elements with {@code codec}, into lists with the default (doubling)
+     * growth policy.
+     *
+     * @param codec the codec used to read records as elements (must match the one the list was written with)
+     */
+    public DoublingListReader(RecordCodec<E> codec) {
+        this(codec, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Creates a reader which decodes elements with {@code codec}, into lists whose nodes are sized by
+     * {@code policy}.
+     *
+     * @param codec the codec used to read records as elements (must match the one the list was written with)
+     * @param policy the growth policy of the lists read (normally the one the list was written with)
+     */
+    public DoublingListReader(RecordCodec<E> codec, GrowthPolicy policy) {
+        this.codec = codec;
+        this.policy = policy;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(DoublingListWriter.BUFFER_BYTES, codec.width())).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads the list stored in {@code file}.
+     *
+     * @throws IOException if the file can't be read, or doesn't hold a list of this record width
+     * @param file the file to read from
+     * @return the list read
+     */
+    public DoublingList<E> read(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Reads a list from {@code in}. The channel is left open, and may have been read past the end of the list.
+     *
+     * @throws EOFException if the channel ends part way through the list
+     * @throws IOException if the channel can't be read, or doesn't hold a list of this record width
+     * @param in the channel to read from
+     * @return the list read
+     */
+    public DoublingList<E> read(ReadableByteChannel in) throws IOException {
+
+        buffer.clear().flip();
+
+        if(getInt(in) != DoublingListWriter.MAGIC) throw new IOException("The channel doesn't hold a DoublingList.");
+
+        int width = getInt(in);
+        if(width != codec.width()) throw new IOException("The list has records of " + width + " bytes, not " + codec.width() + ".");
+
+        int nodes = getInt(in);
+        if(nodes < 0) throw new IOException("The list's header is corrupt.");
+
+        DoublingList<E> list = new DoublingList<>(policy);
+
+        // No list can hold more nodes than fit in Integer.MAX_VALUE slots, so check before allocating anything.
+        long capacity = 0;
+        for(int k = 0; k < nodes && capacity <= Integer.MAX_VALUE; ++k) capacity += list.nodeCapacity(k);
+        if(capacity > Integer.MAX_VALUE) throw new IOException("The list's header is corrupt.");
+
+        int[] sizes = new int[nodes];
+
+        for(int k = 0; k < nodes; ++k) {
+            sizes[k] = getInt(in);
+            if(sizes[k] < 0) throw new IOException("The list's header is corrupt.");
+            if(sizes[k] > list.nodeCapacity(k)) throw new IOException("Node " + k + " holds " + sizes[k] + " elements, more than the growth policy allows.");
+        }
+
+        for(int k = 0; k < nodes; ++k) {
+            Object[] values = new Object[list.nodeCapacity(k)];
+
+            for(int i = 0; i < sizes[k]; ++i) {
+                fill(in, width);
+
+                int position = buffer.position();
+                values[i] = codec.read(buffer, position);
+                buffer.position(position + width);
+
+                if(values[i] == null) throw new IOException("The codec decoded a null element.");
+            }
+
+            list.restoreNode(values, sizes[k]);
+        }
+
+        return list;
+    }
+
+    /**
+     * Reads a header value from the buffer, refilling it first if needed.
+     *
+     * @throws IOException if the channel can't be read or ends too soon
+     * @param in the channel to refill from
+     * @return the value read
+     */
+    private int getInt(ReadableByteChannel in) throws IOException {
+        fill(in, Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Makes sure at least {@code bytes} bytes are left in the buffer, reading more from {@code in} if needed.
+     *
+     * @throws EOFException if the channel ends first
+     * @throws IOException if the channel can't be read
+     * @param in the channel to read from
+     * @param bytes the number of bytes needed
+     */
+    private void fill(ReadableByteChannel in, int bytes) throws IOException {
+
+        if(buffer.remaining() >= bytes) return;
+
+        buffer.compact();
+
+        while(buffer.position() < bytes)
+            if(in.read(buffer) < 0) throw new EOFException("The channel ends part way through the list.");
+
+        buffer.flip();
+    }
+
+}
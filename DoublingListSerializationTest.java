@@ -0,0 +1,126 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+/**
+ * Test class for {@link DoublingListWriter} and {@link DoublingListReader}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class DoublingListSerializationTest {
+
+    public DoublingListSerializationTest() { }
+
+    /**
+     * Tests that a list read back has the same elements in the same node layout as the one written, including
+     * partly filled nodes left behind by removals, and that it can still be modified.
+     */
+    @Test
+    @DisplayName("Round trip")
+    public void testRoundTrip() throws IOException {
+
+        DoublingList<Long> list = new DoublingList<Long>();
+        for(long i = 0; i < 100_000; ++i) list.add(i);
+        for(int i = 0; i < 1000; ++i) list.remove(i * 37);
+
+        DoublingList<Long> read = roundTrip(list);
+
+        assertEquals(list.toStringInternal(), read.toStringInternal());
+        assertEquals(list, read);
+
+        read.add(50, -1L);
+        list.add(50, -1L);
+        assertEquals(list, read);
+
+        // An empty list, and one with an empty node before a full one
+        assertEquals("[]", roundTrip(new DoublingList<Long>()).toStringInternal());
+
+        DoublingList<Long> sparse = new DoublingList<Long>();
+        for(long i = 0; i < 3; ++i) sparse.add(i);
+        sparse.remove(0);
+        assertEquals("[(—), (1, 2)]", roundTrip(sparse).toStringInternal());
+    }
+
+    /**
+     * Tests that a list with a different growth policy reads back with the same layout when read with that
+     * policy, and that reading it with a policy whose nodes are too small is reported.
+     */
+    @Test
+    @DisplayName("Growth policies")
+    public void testGrowthPolicy() throws IOException {
+
+        GrowthPolicy policy = GrowthPolicy.DOUBLING.cappedAt(64);
+        DoublingList<Long> list = new DoublingList<Long>(policy);
+        for(long i = 0; i < 1000; ++i) list.add(i);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DoublingListWriter<Long>(RecordCodec.LONG).write(list, Channels.newChannel(bytes));
+
+        DoublingList<Long> read = new DoublingListReader<Long>(RecordCodec.LONG, policy).read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(list.toStringInternal(), read.toStringInternal());
+
+        boolean thrown = false;
+
+        try {
+            new DoublingListReader<Long>(RecordCodec.LONG, GrowthPolicy.fixed(16)).read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        } catch(IOException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+    }
+
+    /**
+     * Tests that a truncated stream, or a list read with a codec of the wrong width, is reported.
+     */
+    @Test
+    @DisplayName("Truncated streams and mismatched codecs")
+    public void testBadInput() throws IOException {
+
+        DoublingList<Long> list = new DoublingList<Long>();
+        for(long i = 0; i < 10; ++i) list.add(i);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DoublingListWriter<Long>(RecordCodec.LONG).write(list, Channels.newChannel(bytes));
+        byte[] written = bytes.toByteArray();
+
+        boolean thrown = false;
+
+        try {
+            new DoublingListReader<Long>(RecordCodec.LONG).read(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(written, written.length - 3))));
+        } catch(EOFException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+        thrown = false;
+
+        try {
+            new DoublingListReader<Integer>(RecordCodec.INTEGER).read(Channels.newChannel(new ByteArrayInputStream(written)));
+        } catch(IOException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+    }
+
+    /**
+     * Writes {@code list} to a byte array and reads it back.
+     *
+     * @param list the list to write
+     * @return the list read back
+     */
+    private static DoublingList<Long> roundTrip(DoublingList<Long> list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DoublingListWriter<Long>(RecordCodec.LONG).write(list, Channels.newChannel(bytes));
+        return new DoublingListReader<Long>(RecordCodec.LONG).read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+}
@@ -4,7 +4,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
 import java.util.ListIterator;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.lang.management.ManagementFactory;
 
 /**
  * Test class for {@link DoublingList}.
@@ -318,6 +331,250 @@ public class DoublingListTest {
         assertTrue(outOfBounds);
     }
     
+    /**
+     * Tests the {@link DoublingList#add(int, E)} method when the target node is full and the node directly
+     * before it has space.
+     * <ol>
+     *  <li>Adds to the front of the list after the first node has been emptied.</li>
+     *  <li>Adds to the front of a full node whose predecessor has space.</li>
+     *  <li>Checks every index against the expected order after many mixed insertions and removals.</li>
+     * </ol>
+     */
+    @Test
+    @DisplayName("add(int, E) into a full node with a predecessor that has space")
+    public void testAddIntEFullNodeWithPredecessorSpace() {
+        
+        iteratorTest.remove(0);
+        assertEquals("[(—), (B, C), (D, E, F, G)]", iteratorTest.toStringInternal());
+        
+        iteratorTest.add(0, "X");
+        assertEquals("[(X), (B, C), (D, E, F, G)]", iteratorTest.toStringInternal());
+        
+        iteratorTest.remove(1);
+        assertEquals("[(X), (C, —), (D, E, F, G)]", iteratorTest.toStringInternal());
+        
+        iteratorTest.add(2, "Y");
+        assertEquals("[(X), (C, Y), (D, E, F, G)]", iteratorTest.toStringInternal());
+        
+        // Mixed insertions and removals, checked index by index
+        
+        List<String> expected = new ArrayList<String>();
+        Random random = new Random(42);
+        
+        for(int i = 0; i < 2000; ++i) {
+            if(expected.isEmpty() || random.nextInt(3) != 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, "" + i);
+                expected.add(index, "" + i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        
+        assertEquals(expected.size(), list.size());
+        
+        for(int i = 0; i < expected.size(); ++i) assertEquals(expected.get(i), list.get(i));
+    }
+    
+    /**
+     * Tests that {@link DoublingList#add(int, E)} and {@link DoublingList#remove(int)} don't allocate once the
+     * list's nodes exist. Alternates inserting and removing in the middle of a list so that no node is added
+     * or compacted away, and checks the bytes allocated by this thread using HotSpot's {@code ThreadMXBean}.
+     * Skipped on JVMs which don't support allocation measurement.
+     */
+    @Test
+    @DisplayName("add(int, E) and remove(int) don't allocate")
+    public void testAddRemoveAllocationFree() {
+        
+        if(!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) return;
+        
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if(!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) return;
+        
+        for(int i = 0; i < 1000; ++i) list.add("" + i);
+        
+        // Leave some space spread out across the nodes so that inserts have to shift
+        for(int i = 0; i < 100; ++i) list.remove(i * 5);
+        
+        String element = "X";
+        
+        // Warm up, so that the measured loop isn't paying for class loading
+        for(int i = 0; i < 10000; ++i) {
+            list.add(450, element);
+            list.remove(450);
+        }
+        
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        
+        for(int i = 0; i < 10000; ++i) {
+            list.add(i % list.size(), element);
+            list.remove((i * 7) % list.size());
+        }
+        
+        long allocated = bean.getThreadAllocatedBytes(threadId) - before;
+        
+        // Allow for a little noise from the measurement itself, but far less than a byte per operation.
+        assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+    }
+    
+    /**
+     * Tests the {@link DoublingList#addAll(Collection)} and
+     * {@link DoublingList#addAll(int, Collection)} methods.
+     * <ol>
+     *  <li>Adds to an empty list, then to the end of a list.</li>
+     *  <li>Adds to the front and to the middle of a list.</li>
+     *  <li>Adds an empty collection.</li>
+     *  <li>Attempts to add a collection containing {@code null}, catches the exception and checks the list is unchanged.</li>
+     *  <li>Attempts to add at an out-of-bounds index, catches the exception.</li>
+     * </ol>
+     */
+    @Test
+    @DisplayName("addAll(Collection) and addAll(int, Collection)")
+    public void testAddAll() {
+        
+        assertTrue(list.addAll(List.of("A", "B", "C")));
+        assertEquals("[(A), (B, C)]", list.toStringInternal());
+        
+        assertTrue(list.addAll(List.of("D", "E")));
+        assertEquals("[(A), (B, C), (D, E, —, —)]", list.toStringInternal());
+        
+        assertTrue(list.addAll(0, List.of("X", "Y")));
+        assertEquals("[(X), (Y, A), (B, C, D, E)]", list.toStringInternal());
+        
+        assertTrue(list.addAll(3, List.of("Z")));
+        assertEquals("[(X), (Y, A), (Z, B, C, D), (E, —, —, —, —, —, —, —)]", list.toStringInternal());
+        assertEquals(List.of("X", "Y", "A", "Z", "B", "C", "D", "E"), new ArrayList<String>(list));
+        
+        assertFalse(list.addAll(2, List.of()));
+        assertEquals(8, list.size());
+        
+        // NullPointer test
+        
+        boolean nullPointer = false;
+        
+        try {
+            list.addAll(1, Arrays.asList("Q", null));
+        } catch (NullPointerException e) {
+            nullPointer = true;
+        }
+        
+        assertTrue(nullPointer);
+        assertEquals("[(X), (Y, A), (Z, B, C, D), (E, —, —, —, —, —, —, —)]", list.toStringInternal());
+        
+        // Out-of-bounds test
+        
+        boolean outOfBounds = false;
+        
+        try {
+            list.addAll(9, List.of("Q"));
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+        
+        assertTrue(outOfBounds);
+    }
+    
+    /**
+     * Tests the {@link DoublingList#clear()} method and {@code removeRange(int, int)} through
+     * {@code subList(int, int).clear()}.
+     * <ol>
+     *  <li>Removes a range spanning several nodes, leaving an empty node behind.</li>
+     *  <li>Removes a range which results in list resizing.</li>
+     *  <li>Clears the list, then adds to it again.</li>
+     * </ol>
+     */
+    @Test
+    @DisplayName("clear() and removeRange(int, int)")
+    public void testClearAndRemoveRange() {
+        
+        iteratorTest.subList(1, 4).clear();
+        assertEquals("[(A), (—, —), (E, F, G, —)]", iteratorTest.toStringInternal());
+        assertEquals(4, iteratorTest.size());
+        
+        iteratorTest.subList(2, 2).clear();
+        assertEquals("[(A), (—, —), (E, F, G, —)]", iteratorTest.toStringInternal());
+        
+        // Resizing
+        
+        list.addAll(List.of("A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O"));
+        list.subList(0, 13).clear();
+        assertEquals("[(N), (O, —), (—, —, —, —)]", list.toStringInternal());
+        assertEquals(2, list.size());
+        
+        // Clearing
+        
+        list.clear();
+        assertEquals("[]", list.toStringInternal());
+        assertEquals(0, list.size());
+        
+        list.add("A");
+        list.add("B");
+        assertEquals("[(A), (B, —)]", list.toStringInternal());
+    }
+    
+    /**
+     * Tests the {@link DoublingList#get(int)} and {@link DoublingList#set(int, E)} methods.
+     * <ol>
+     *  <li>Gets each element of a list, including after removals leave empty space.</li>
+     *  <li>Sets an element, checking the previous element is returned.</li>
+     *  <li>Attempts to set {@code null}, catches the exception.</li>
+     *  <li>Attempts to get and set out-of-bounds indices, catches the exceptions.</li>
+     * </ol>
+     */
+    @Test
+    @DisplayName("get(int) and set(int, E)")
+    public void testGetAndSet() {
+        
+        assertTrue(iteratorTest instanceof RandomAccess);
+        
+        assertEquals("A", iteratorTest.get(0));
+        assertEquals("C", iteratorTest.get(2));
+        assertEquals("G", iteratorTest.get(6));
+        
+        iteratorTest.remove(1);
+        iteratorTest.remove(1);
+        assertEquals("A", iteratorTest.get(0));
+        assertEquals("D", iteratorTest.get(1));
+        
+        assertEquals("D", iteratorTest.set(1, "X"));
+        assertEquals("[(A), (—, —), (X, E, F, G)]", iteratorTest.toStringInternal());
+        
+        // NullPointer test
+        
+        boolean nullPointer = false;
+        
+        try {
+            iteratorTest.set(0, null);
+        } catch (NullPointerException e) {
+            nullPointer = true;
+        }
+        
+        assertTrue(nullPointer);
+        
+        // Out-of-bounds tests
+        
+        boolean outOfBounds = false;
+        
+        try {
+            iteratorTest.get(5);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+        
+        assertTrue(outOfBounds);
+        outOfBounds = false;
+        
+        try {
+            iteratorTest.set(-1, "Y");
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+        
+        assertTrue(outOfBounds);
+    }
+    
     /**
      * Tests the {@link DoublingList#size()} method.
      * <ol>
@@ -841,6 +1098,45 @@ public class DoublingListTest {
         
     }
     
+    /**
+     * Tests the {@code DoublingList.DoublingListIterator.next()} and the
+     * {@code DoublingList.DoublingListIterator.previous()} methods across many nodes, including nodes
+     * emptied by removals, and after the list has been modified through the iterator.
+     */
+    @Test
+    @DisplayName("DoublingListIterator.next() and DoublingListIterator.previous() across nodes")
+    public void testListIteratorAcrossNodes() {
+        
+        for(int i = 0; i < 100; ++i) list.add("" + i);
+        
+        // Leaves the second node empty
+        list.remove(1);
+        list.remove(1);
+        
+        ListIterator<String> iter = list.listIterator();
+        
+        assertEquals("0", iter.next());
+        assertEquals("3", iter.next());
+        assertEquals("3", iter.previous());
+        assertEquals("0", iter.previous());
+        
+        for(int i = 0; i < list.size(); ++i) assertEquals(list.get(i), iter.next());
+        assertFalse(iter.hasNext());
+        
+        for(int i = list.size() - 1; i >= 0; --i) assertEquals(list.get(i), iter.previous());
+        assertFalse(iter.hasPrevious());
+        
+        // Structural changes through the iterator re-locate its cursor
+        
+        iter.next();
+        iter.add("X");
+        assertEquals("3", iter.next());
+        iter.remove();
+        assertEquals("4", iter.next());
+        assertEquals("4", iter.previous());
+        assertEquals("X", iter.previous());
+    }
+    
     /**
      * Tests the {@code DoublingList.DoublingListIterator.nextIndex()} and the
      * {@code DoublingList.DoublingListIterator.previousIndex()} methods.
@@ -1047,4 +1343,748 @@ public class DoublingListTest {
         assertTrue(flag);
         
     }
-}
\ No newline at end of file
+    /**
+     * Tests that list iterators fail fast.
+     * 
+     * Structurally modifies the list directly, and through a second iterator, part way through an iteration,
+     * ensuring the first iterator then throws a {@code ConcurrentModificationException}. Also interleaves the
+     * iterator's own {@code add(E)} and {@code remove()} with {@code next()} and {@code previous()} across
+     * nodes, ensuring those keep working, and that {@code set} (which isn't structural) doesn't count.
+     */
+    @Test
+    @DisplayName("DoublingListIterator fails fast")
+    public void testListIteratorFailFast() {
+
+        ListIterator<String> iter = iteratorTest.listIterator();
+        assertEquals("A", iter.next());
+
+        iteratorTest.add("H");
+        assertTrue(iter.hasNext());
+
+        boolean flag = false;
+
+        try {
+            iter.next();
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+
+        // Every other method fails too, including ones which would change the list.
+
+        flag = false;
+
+        try {
+            iter.remove();
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+        assertEquals(8, iteratorTest.size());
+
+        flag = false;
+
+        try {
+            iter.add("X");
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+        assertEquals(8, iteratorTest.size());
+
+        // A structural change through another iterator, including one which compacts the list
+
+        iter = iteratorTest.listIterator(4);
+        ListIterator<String> other = iteratorTest.listIterator();
+
+        for(int i = 0; i < 6; ++i) {
+            other.next();
+            other.remove();
+        }
+
+        flag = false;
+
+        try {
+            iter.previous();
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+
+        // set(int, E) isn't structural, so the iterator carries on
+
+        iter = iteratorTest.listIterator();
+        iteratorTest.set(1, "Z");
+        assertEquals("G", iter.next());
+        assertEquals("Z", iter.next());
+
+        // The iterator's own changes, interleaved with stepping in both directions across many nodes
+
+        List<Integer> expected = new ArrayList<Integer>();
+        DoublingList<Integer> numbers = new DoublingList<Integer>();
+
+        for(int i = 0; i < 100; ++i) {
+            expected.add(i);
+            numbers.add(i);
+        }
+
+        ListIterator<Integer> numbersIter = numbers.listIterator(), expectedIter = expected.listIterator();
+
+        for(int i = 0; i < 300; ++i) {
+            switch(i % 5) {
+                case 0:
+                case 1:
+                    if(expectedIter.hasNext()) assertEquals(expectedIter.next(), numbersIter.next());
+                    break;
+                case 2:
+                    expectedIter.add(-i);
+                    numbersIter.add(-i);
+                    break;
+                case 3:
+                    if(expectedIter.hasPrevious()) {
+                        assertEquals(expectedIter.previous(), numbersIter.previous());
+                        expectedIter.remove();
+                        numbersIter.remove();
+                    }
+                    break;
+                default:
+                    if(expectedIter.hasNext()) {
+                        assertEquals(expectedIter.next(), numbersIter.next());
+                        expectedIter.set(i);
+                        numbersIter.set(i);
+                    }
+            }
+        }
+
+        assertEquals(expected, numbers);
+
+        // An enhanced for loop which removes from the list
+
+        flag = false;
+
+        try {
+            for(Integer number : numbers)
+                if(number % 2 == 0) numbers.remove(number);
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+    }
+
+    /**
+     * Tests {@link DoublingList#spliterator()}.
+     * 
+     * Checks the characteristics, that the first split of a full list is at the start of the last node, and that
+     * splitting repeatedly (including lists with partly filled nodes) covers every element exactly once, in
+     * order. Then sums the list with a parallel stream, and modifies the list during a traversal.
+     */
+    @Test
+    @DisplayName("spliterator()")
+    public void testSpliterator() {
+
+        DoublingList<Integer> numbers = new DoublingList<Integer>();
+        for(int i = 0; i < 1023; ++i) numbers.add(i);
+
+        Spliterator<Integer> spliterator = numbers.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL));
+        assertEquals(1023, spliterator.estimateSize());
+
+        // Nodes 0 to 8 hold 511 elements, and node 9 holds the other 512.
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(511, prefix.estimateSize());
+        assertEquals(512, spliterator.estimateSize());
+
+        // Remove elements all over the list so nodes are partly filled, then split all the way down.
+        for(int i = 0; i < 300; ++i) numbers.remove(i * 2);
+
+        List<Integer> collected = new ArrayList<Integer>();
+        split(numbers.spliterator(), collected);
+        assertEquals(numbers, collected);
+
+        long sum = 0;
+        for(int number : numbers) sum += number;
+        assertEquals(sum, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+
+        // A structural change during traversal
+
+        Spliterator<Integer> modified = numbers.spliterator();
+        assertTrue(modified.tryAdvance(number -> numbers.add(0, number)));
+
+        boolean flag = false;
+
+        try {
+            modified.forEachRemaining(number -> { });
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+    }
+
+    /**
+     * Splits {@code spliterator} until it can't be split any more, checking the sizes reported at each step,
+     * and adds the elements of each piece to {@code into} in order.
+     * 
+     * @param spliterator the spliterator to split
+     * @param into the list to add the elements to
+     */
+    private static void split(Spliterator<Integer> spliterator, List<Integer> into) {
+
+        long size = spliterator.estimateSize();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        if(prefix == null) {
+            // Alternate between the two ways of traversing.
+            if(size % 2 == 0) spliterator.forEachRemaining(into::add);
+            else while(spliterator.tryAdvance(into::add));
+            return;
+        }
+
+        assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(prefix.estimateSize() > 0 && spliterator.estimateSize() > 0);
+
+        split(prefix, into);
+        split(spliterator, into);
+    }
+
+    /**
+     * Tests {@link DoublingList#forEach(java.util.function.Consumer)},
+     * {@link DoublingList#replaceAll(java.util.function.UnaryOperator)},
+     * {@link DoublingList#removeIf(java.util.function.Predicate)} and
+     * {@link DoublingList#sort(java.util.Comparator)}.
+     * 
+     * Checks the order elements are visited and the node layout each operation leaves behind (with
+     * {@code removeIf} matching one-at-a-time removal), compares against an {@code ArrayList} on a larger list,
+     * and checks that modifying the list from inside a callback is detected.
+     */
+    @Test
+    @DisplayName("forEach, replaceAll, removeIf and sort")
+    public void testBulkOperations() {
+
+        StringBuilder visited = new StringBuilder();
+        iteratorTest.forEach(visited::append);
+        assertEquals("ABCDEFG", visited.toString());
+
+        iteratorTest.replaceAll(String::toLowerCase);
+        assertEquals("[(a), (b, c), (d, e, f, g)]", iteratorTest.toStringInternal());
+
+        assertTrue(iteratorTest.removeIf(element -> element.equals("b") || element.equals("e")));
+        assertEquals("[(a), (c, —), (d, f, g, —)]", iteratorTest.toStringInternal());
+        assertFalse(iteratorTest.removeIf(element -> element.equals("z")));
+
+        iteratorTest.sort(Comparator.reverseOrder());
+        assertEquals("[(g), (f, —), (d, c, a, —)]", iteratorTest.toStringInternal());
+
+        // Removing enough elements compacts the list once
+        assertTrue(iteratorTest.removeIf(element -> !element.equals("a")));
+        assertEquals("[(a), (—, —)]", iteratorTest.toStringInternal());
+
+        assertTrue(iteratorTest.removeIf(element -> true));
+        assertEquals("[]", iteratorTest.toStringInternal());
+
+        // A larger list, against an ArrayList
+
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        DoublingList<Integer> numbers = new DoublingList<Integer>();
+
+        for(int i = 0; i < 5000; ++i) {
+            int number = random.nextInt(1000);
+            expected.add(number);
+            numbers.add(number);
+        }
+
+        expected.replaceAll(number -> number * 3);
+        numbers.replaceAll(number -> number * 3);
+        assertEquals(expected, numbers);
+
+        expected.removeIf(number -> number % 2 == 0);
+        numbers.removeIf(number -> number % 2 == 0);
+        assertEquals(expected, numbers);
+
+        expected.sort(null);
+        numbers.sort(null);
+        assertEquals(expected, numbers);
+
+        // Modification from inside a callback, and a null replacement
+
+        boolean flag = false;
+
+        try {
+            numbers.forEach(number -> numbers.add(number));
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+        flag = false;
+
+        try {
+            numbers.removeIf(number -> numbers.add(number));
+        } catch(ConcurrentModificationException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+        flag = false;
+
+        try {
+            numbers.replaceAll(number -> null);
+        } catch(NullPointerException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+    }
+
+    /**
+     * Tests {@link DoublingList#parallelForEach(java.util.function.Consumer)},
+     * {@link DoublingList#parallelReplaceAll(java.util.function.UnaryOperator)},
+     * {@link DoublingList#parallelSort(java.util.Comparator)} and
+     * {@link DoublingList#parallelPrefix(java.util.function.BinaryOperator)} against the same operations done
+     * sequentially on an {@code ArrayList}, both from the calling thread and from inside a pool of four
+     * workers (so that the work is split between tasks even on a single processor).
+     */
+    @Test
+    @DisplayName("Parallel bulk operations")
+    public void testParallelBulkOperations() throws Exception {
+
+        iteratorTest.parallelPrefix(String::concat);
+        assertEquals("[(A), (AB, ABC), (ABCD, ABCDE, ABCDEF, ABCDEFG)]", iteratorTest.toStringInternal());
+
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        DoublingList<Integer> numbers = new DoublingList<Integer>();
+
+        for(int i = 0; i < 100000; ++i) {
+            int number = random.nextInt(1000);
+            expected.add(number);
+            numbers.add(number);
+        }
+
+        // Leave some nodes partly empty
+        for(int i = 0; i < 1000; ++i) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), numbers.remove(index));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        for(boolean inPool : new boolean[] {false, true}) {
+            Runnable operations = () -> {
+                expected.replaceAll(number -> number * 3 + 1);
+                numbers.parallelReplaceAll(number -> number * 3 + 1);
+                assertEquals(expected, numbers);
+
+                AtomicLong sum = new AtomicLong();
+                AtomicInteger count = new AtomicInteger();
+                numbers.parallelForEach(number -> {
+                    sum.addAndGet(number);
+                    count.incrementAndGet();
+                });
+                assertEquals(expected.stream().mapToLong(Integer::longValue).sum(), sum.get());
+                assertEquals(expected.size(), count.get());
+
+                String layout = numbers.toStringInternal().replaceAll("[0-9]+", "x");
+                expected.sort(Comparator.reverseOrder());
+                numbers.parallelSort(Comparator.reverseOrder());
+                assertEquals(expected, numbers);
+                assertEquals(layout, numbers.toStringInternal().replaceAll("[0-9]+", "x"));
+
+                expected.sort(null);
+                numbers.parallelSort(null);
+                assertEquals(expected, numbers);
+
+                for(int i = 1; i < expected.size(); ++i) expected.set(i, (expected.get(i - 1) + expected.get(i)) % 1000);
+                numbers.parallelPrefix((left, right) -> (left + right) % 1000);
+                assertEquals(expected, numbers);
+            };
+
+            if(inPool) pool.submit(operations).get();
+            else operations.run();
+        }
+
+        pool.shutdown();
+
+        boolean flag = false;
+
+        try {
+            numbers.parallelReplaceAll(number -> number % 2 == 0 ? null : number);
+        } catch(NullPointerException e) {
+            flag = true;
+        }
+
+        assertTrue(flag);
+    }
+
+    /**
+     * Tests {@link DoublingList#setGapBuffered(boolean)}: edits at a moving cursor, jumping around the list,
+     * mixed with reads, replacements and bulk operations, against an {@code ArrayList}. Also checks that the
+     * gap is closed up (leaving no stray references in the free slots) whenever the nodes are read directly.
+     */
+    @Test
+    @DisplayName("Gap buffering")
+    public void testGapBuffering() {
+
+        assertFalse(iteratorTest.isGapBuffered());
+        iteratorTest.setGapBuffered(true);
+        assertTrue(iteratorTest.isGapBuffered());
+
+        // Removing then adding in the same node leaves the same layout as without a gap
+        iteratorTest.remove(4);
+        iteratorTest.add(3, "X");
+        assertEquals("[(A), (B, C), (X, D, F, G)]", iteratorTest.toStringInternal());
+
+        Random random = new Random(42);
+        List<String> expected = new ArrayList<String>(iteratorTest);
+
+        for(int jump = 0; jump < 200; ++jump) {
+            int cursor = random.nextInt(expected.size() + 1);
+
+            for(int i = 0; i < 100; ++i) {
+                int operation = random.nextInt(10);
+
+                if(operation < 7 || expected.isEmpty() || cursor == expected.size()) {
+                    expected.add(cursor, jump + "." + i);
+                    iteratorTest.add(cursor, jump + "." + i);
+                    cursor++;
+                } else if(operation < 9) {
+                    assertEquals(expected.remove(cursor), iteratorTest.remove(cursor));
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.set(index, "set"), iteratorTest.set(index, "set"));
+                }
+
+                if(!expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.get(index), iteratorTest.get(index));
+                }
+            }
+
+            if(jump % 50 == 49) {
+                iteratorTest.removeIf(element -> element.endsWith("7"));
+                expected.removeIf(element -> element.endsWith("7"));
+            }
+
+            assertEquals(expected, iteratorTest);
+        }
+
+        // Typing through a list iterator
+        ListIterator<String> iterator = iteratorTest.listIterator(expected.size() / 2);
+        ListIterator<String> expectedIterator = expected.listIterator(expected.size() / 2);
+
+        for(int i = 0; i < 1000; ++i) {
+            iterator.add("typed" + i);
+            expectedIterator.add("typed" + i);
+        }
+
+        assertEquals(expectedIterator.previous(), iterator.previous());
+        assertEquals(expected, iteratorTest);
+
+        int stored = 0;
+        for(String slot : iteratorTest.toStringInternal().replaceAll("[\\[\\]()]", "").split(", "))
+            if(!slot.equals("—")) stored++;
+
+        assertEquals(expected.size(), stored);
+
+        iteratorTest.setGapBuffered(false);
+        iteratorTest.add(0, "first");
+        expected.add(0, "first");
+        assertEquals(expected, iteratorTest);
+    }
+
+    /**
+     * Tests the node capacities each {@link GrowthPolicy} gives, and a long run of random operations (growing
+     * past the initial 32 nodes and compacting many times) against an {@code ArrayList} with small fixed-size
+     * nodes.
+     */
+    @Test
+    @DisplayName("Growth policies")
+    public void testGrowthPolicies() {
+
+        DoublingList<Integer> geometric = new DoublingList<Integer>(GrowthPolicy.geometric(1.5));
+        DoublingList<Integer> fixed = new DoublingList<Integer>(GrowthPolicy.fixed(3));
+        DoublingList<Integer> capped = new DoublingList<Integer>(GrowthPolicy.DOUBLING.cappedAt(4));
+
+        for(int i = 0; i < 10; ++i) {
+            geometric.add(i);
+            fixed.add(i);
+            capped.add(i);
+        }
+
+        assertEquals("[(0), (1, 2), (3, 4, 5), (6, 7, 8, 9, —)]", geometric.toStringInternal());
+        assertEquals("[(0, 1, 2), (3, 4, 5), (6, 7, 8), (9, —, —)]", fixed.toStringInternal());
+        assertEquals("[(0), (1, 2), (3, 4, 5, 6), (7, 8, 9, —)]", capped.toStringInternal());
+
+        // Removing enough compacts down to the nodes needed plus one empty one, as with doubling
+        for(int i = 0; i < 7; ++i) fixed.remove(0);
+        assertEquals("[(7, 8, 9), (—, —, —)]", fixed.toStringInternal());
+
+        boolean thrown = false;
+
+        try {
+            GrowthPolicy.geometric(1.0);
+        } catch(IllegalArgumentException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+        thrown = false;
+
+        try {
+            GrowthPolicy.fixed(0);
+        } catch(IllegalArgumentException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        DoublingList<Integer> small = new DoublingList<Integer>(GrowthPolicy.fixed(2));
+
+        for(int i = 0; i < 20000; ++i) {
+            int operation = random.nextInt(10);
+
+            if(expected.isEmpty() || operation < (i % 4000 < 2000 ? 7 : 3)) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                small.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), small.remove(index));
+            }
+
+            if(!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), small.get(index));
+            }
+        }
+
+        assertEquals(expected, small);
+    }
+
+    /**
+     * Tests that a custom {@link GrowthPolicy} giving a node a capacity of less than {@code 1} is rejected when
+     * that node is created, instead of failing part way through an add or growing the list forever.
+     */
+    @Test
+    @DisplayName("Custom growth policies with empty nodes")
+    public void testEmptyNodePolicies() {
+
+        GrowthPolicy[] policies = { k -> k == 0 ? 0 : 4, k -> 0, k -> k == 0 ? 1 : -1 };
+
+        for(GrowthPolicy policy : policies) {
+            DoublingList<Integer> bad = new DoublingList<Integer>(policy);
+            boolean thrown = false;
+
+            try {
+                for(int i = 0; i < 10; ++i) bad.add(i);
+            } catch(IllegalStateException e) {
+                thrown = true;
+            }
+
+            assertTrue(thrown);
+            thrown = false;
+
+            try {
+                new DoublingList<Integer>(policy).addAll(List.of(1, 2, 3));
+            } catch(IllegalStateException e) {
+                thrown = true;
+            }
+
+            assertTrue(thrown);
+        }
+    }
+
+    /**
+     * Tests that a pre-sized list allocates its nodes up front and keeps them as it's drained, that
+     * {@code trimToSize} frees what isn't needed, and the constructor copying a collection.
+     */
+    @Test
+    @DisplayName("Pre-sizing and trimming")
+    public void testPresizing() {
+
+        DoublingList<Integer> presized = new DoublingList<Integer>(10);
+        assertEquals(4, presized.nodeCount());
+        assertTrue(presized.isEmpty());
+
+        for(int i = 0; i < 10; ++i) presized.add(i);
+        assertEquals(4, presized.nodeCount());
+        assertEquals("[(0), (1, 2), (3, 4, 5, 6), (7, 8, 9, —, —, —, —, —)]", presized.toStringInternal());
+
+        // Draining the list keeps the reserved nodes, and it fills up again from the first one
+        while(!presized.isEmpty()) presized.remove(presized.size() - 1);
+        assertEquals(4, presized.nodeCount());
+
+        presized.add(0);
+        presized.add(1);
+        presized.add(0, 2);
+        assertEquals("[(2), (0, 1), (—, —, —, —), (—, —, —, —, —, —, —, —)]", presized.toStringInternal());
+
+        // Clearing the whole list through a sub list keeps the reservation too
+        presized.subList(0, 3).clear();
+        assertTrue(presized.isEmpty());
+        assertEquals(4, presized.nodeCount());
+
+        presized.add(0);
+        presized.add(1);
+        presized.add(0, 2);
+        assertEquals("[(2), (0, 1), (—, —, —, —), (—, —, —, —, —, —, —, —)]", presized.toStringInternal());
+
+        presized.trimToSize();
+        assertEquals("[(2), (0, 1)]", presized.toStringInternal());
+
+        // The nodes already hold three elements, so none are added
+        presized.ensureCapacity(3);
+        assertEquals(2, presized.nodeCount());
+        presized.clear();
+        assertEquals(0, presized.nodeCount());
+
+        boolean thrown = false;
+
+        try {
+            new DoublingList<Integer>(-1);
+        } catch(IllegalArgumentException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+
+        DoublingList<Integer> reserved = new DoublingList<Integer>();
+        reserved.ensureCapacity(100);
+        int reservedNodes = reserved.nodeCount();
+
+        for(int i = 0; i < 100; ++i) reserved.add(i);
+        reserved.subList(0, 100).clear();
+        assertTrue(reserved.isEmpty());
+        assertEquals(reservedNodes, reserved.nodeCount());
+
+        for(int i = 0; i < 100; ++i) reserved.add(i);
+        assertEquals(reservedNodes, reserved.nodeCount());
+
+        List<Integer> source = new ArrayList<Integer>();
+        for(int i = 0; i < 1000; ++i) source.add(i);
+
+        DoublingList<Integer> copy = new DoublingList<Integer>(source);
+        assertEquals(source, copy);
+        assertEquals(10, copy.nodeCount());
+    }
+
+    /**
+     * Tests lookups while every node is full (where the node is found from the index's highest bit), and
+     * removing from and adding to such a list, against lists sized by another policy.
+     */
+    @Test
+    @DisplayName("Lookups in a full list")
+    public void testFullListLookup() {
+
+        DoublingList<Integer> full = new DoublingList<Integer>();
+        DoublingList<Integer> general = new DoublingList<Integer>(GrowthPolicy.fixed(5));
+
+        for(int i = 0; i < (1 << 12) - 1; ++i) {
+            full.add(i);
+            general.add(i);
+
+            // Whenever the doubling list fills its last node, every index must map to the right element
+            if(((i + 2) & (i + 1)) == 0) {
+                for(int j = 0; j <= i; ++j) assertEquals(j, full.get(j));
+            }
+        }
+
+        Random random = new Random(42);
+
+        for(int i = 0; i < 1000; ++i) {
+            int index = random.nextInt(full.size());
+            assertEquals(general.remove(index), full.remove(index));
+
+            full.add(index, -i);
+            general.add(index, -i);
+            assertEquals(-i, full.set(index, i));
+            general.set(index, i);
+        }
+
+        assertEquals(general, full);
+    }
+
+    /**
+     * Tests lookups on either side of the leading run of full nodes as removals cut it short and adds fill it
+     * back in, against an {@code ArrayList}.
+     */
+    @Test
+    @DisplayName("Lookups around the dense prefix")
+    public void testDensePrefix() {
+
+        DoublingList<Integer> dense = new DoublingList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+
+        for(int i = 0; i < 3000; ++i) {
+            dense.add(i);
+            expected.add(i);
+        }
+
+        Random random = new Random(42);
+
+        for(int i = 0; i < 2000; ++i) {
+            // Removing from an early node leaves a hole the lookups after it have to search past
+            int index = random.nextInt(i % 2 == 0 ? 8 : expected.size());
+            assertEquals(expected.remove(index), dense.remove(index));
+
+            if(random.nextBoolean()) {
+                index = random.nextInt(expected.size() + 1);
+                expected.add(index, -i);
+                dense.add(index, -i);
+            }
+
+            for(int j = 0; j < 20; ++j) {
+                index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), dense.get(index));
+            }
+        }
+
+        assertEquals(expected, dense);
+    }
+
+    /**
+     * Tests that read-only use from several threads at once never sees another thread's lookup.
+     */
+    @Test
+    @DisplayName("Test Concurrent Reads")
+    public void testConcurrentReads() throws InterruptedException {
+
+        DoublingList<Integer> shared = new DoublingList<Integer>();
+        for(int i = 0; i < 10000; ++i) shared.add(i);
+
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] readers = new Thread[4];
+
+        for(int t = 0; t < readers.length; ++t) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+
+                for(int i = 0; i < 200000; ++i) {
+                    int index = random.nextInt(shared.size());
+                    if(shared.get(index) != index) wrong.incrementAndGet();
+                }
+
+                // Iterators seek through the same lookup
+                ListIterator<Integer> it = shared.listIterator(random.nextInt(shared.size()));
+                while(it.hasNext()) {
+                    int index = it.nextIndex();
+                    if(it.next() != index) wrong.incrementAndGet();
+                }
+            });
+            readers[t].start();
+        }
+
+        for(Thread reader : readers) reader.join();
+
+        assertEquals(0, wrong.get());
+    }
+}
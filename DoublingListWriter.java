@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a {@link DoublingList} in a compact binary format which {@link DoublingListReader} can read back.
+ * The format records the node layout exactly, so a list read back has the same nodes holding the same
+ * elements as the one written. All values are little-endian:
+ *
+ * <ul>
+ *   <li>the magic number {@code 0x444C5346}, the record width in bytes and the number of nodes (4-byte ints),</li>
+ *   <li>the size of each node, first node first (4-byte ints),</li>
+ *   <li>the elements of each node, first node first, as records written by a {@link RecordCodec}.</li>
+ * </ul>
+ *
+ * Elements are encoded into a single reusable buffer which is drained to the channel whenever it fills, so
+ * writing a list allocates nothing per element.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element written
+ */
+public class DoublingListWriter<E> {
+
+    static final int MAGIC = 0x444C5346;
+    static final int BUFFER_BYTES = 1 << 16;
+
+    private final RecordCodec<E> codec;
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a writer which encodes elements with {@code codec}.
+     *
+     * @param codec the codec used to write elements as records
+     */
+    public DoublingListWriter(RecordCodec<E> codec) {
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_BYTES, codec.width())).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Writes {@code list} to {@code file}, replacing anything already in it.
+     *
+     * @throws IOException if the file can't be written
+     * @param list the list to write
+     * @param file the file to write to
+     */
+    public void write(DoublingList<E> list, Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(list, channel);
+        }
+    }
+
+    /**
+     * Writes {@code list} to {@code out}. The channel is left open.
+     *
+     * @throws IOException if the channel can't be written to
+     * @param list the list to write
+     * @param out the channel to write to
+     */
+    public void write(DoublingList<E> list, WritableByteChannel out) throws IOException {
+
+        int nodes = list.nodeCount(), width = codec.width();
+
+        buffer.clear();
+        putInt(MAGIC, out);
+        putInt(width, out);
+        putInt(nodes, out);
+        for(int k = 0; k < nodes; ++k) putInt(list.nodeSize(k), out);
+
+        for(int k = 0; k < nodes; ++k) {
+            Object[] values = list.nodeValues(k);
+            int count = list.nodeSize(k);
+
+            for(int i = 0; i < count; ++i) {
+                if(buffer.remaining() < width) drain(out);
+
+                int position = buffer.position();
+                codec.write((E) values[i], buffer, position);
+                buffer.position(position + width);
+            }
+        }
+
+        drain(out);
+    }
+
+    /**
+     * Adds a header value to the buffer, draining it first if it's full.
+     *
+     * @throws IOException if the channel can't be written to
+     * @param value the value to add
+     * @param out the channel to drain to
+     */
+    private void putInt(int value, WritableByteChannel out) throws IOException {
+        if(buffer.remaining() < Integer.BYTES) drain(out);
+        buffer.putInt(value);
+    }
+
+    /**
+     * Writes everything in the buffer to {@code out}, then empties it.
+     *
+     * @throws IOException if the channel can't be written to
+     * @param out the channel to write to
+     */
+    private void drain(WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+}
@@ -0,0 +1,253 @@
+/**
+ * The node arithmetic shared by the lists which always use {@link GrowthPolicy#DOUBLING}'s layout:
+ * {@link OffHeapDoublingList} (and so {@link PersistentDoublingList}), {@link ConcurrentDoublingList},
+ * {@link DoublingDeque} and {@link AppendOnlyDoublingList}. Node {@code k} holds {@code 2^k} elements, so the
+ * first {@code n} nodes hold {@code 2^n - 1}, and while every node before it is full, index {@code i} is in
+ * node {@code floor(log2(i + 1))}.
+ *
+ * Also holds the shifts and compaction {@link OffHeapDoublingList} and {@link ConcurrentDoublingList} share
+ * with {@link DoublingList}. They work on an array of node sizes, and move elements through a {@link Mover},
+ * so that each list keeps its own storage.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+final class DoublingNodes {
+
+    // Node 30 is the last one whose capacity fits in an int.
+    static final int MAX_NODES = 31;
+
+    /**
+     * Moves elements between (or within) the nodes of a list. Overlapping ranges must be handled correctly.
+     */
+    @FunctionalInterface
+    interface Mover {
+
+        /**
+         * Moves {@code count} elements from one node to another.
+         *
+         * @param fromNode the node to move from
+         * @param fromOffset the first element to move
+         * @param toNode the node to move to
+         * @param toOffset where to move the first element to
+         * @param count the number of elements to move
+         */
+        void move(int fromNode, int fromOffset, int toNode, int toOffset, int count);
+    }
+
+    /**
+     * Not instantiable.
+     */
+    private DoublingNodes() {
+    }
+
+    /**
+     * Gets the number of elements a node can hold.
+     *
+     * @param node the node
+     * @return {@code 2^node}
+     */
+    static int capacity(int node) {
+        return 1 << node;
+    }
+
+    /**
+     * Gets the number of elements the first {@code nodes} nodes can hold between them.
+     *
+     * @param nodes the number of nodes
+     * @return {@code 2^nodes - 1}
+     */
+    static int totalCapacity(int nodes) {
+        return (1 << nodes) - 1;
+    }
+
+    /**
+     * Gets the node holding index {@code index}, when every node before it is full.
+     *
+     * @param index the index
+     * @return {@code floor(log2(index + 1))}
+     */
+    static int nodeOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + 1);
+    }
+
+    /**
+     * Gets the offset of index {@code index} within its node, when every node before it is full.
+     *
+     * @param index the index
+     * @param node the node holding it, from {@link #nodeOf(int)}
+     * @return {@code index + 1 - 2^node}
+     */
+    static int offsetOf(int index, int node) {
+        return index + 1 - (1 << node);
+    }
+
+    /**
+     * Gets the number of nodes needed to hold {@code count} elements when they're packed to the front.
+     *
+     * @param count the number of elements
+     * @return the fewest nodes with room for {@code count} elements
+     */
+    static int nodesFor(int count) {
+        return 32 - Integer.numberOfLeadingZeros(count);
+    }
+
+    /**
+     * Checks if a list should be compacted, which is once its elements would fit in all but its last two
+     * nodes. Matches {@link DoublingList}'s threshold.
+     *
+     * @param count the number of elements in the list
+     * @param nodes the number of nodes in the list
+     * @return {@code true} if the list should be compacted
+     */
+    static boolean shouldCompact(int count, int nodes) {
+        return count <= (1 << (nodes - 2)) - 1;
+    }
+
+    /**
+     * Checks if a node's slots are all in use.
+     *
+     * @param sizes the number of elements in each node
+     * @param node the node to check
+     * @return {@code true} if the node is full
+     */
+    static boolean isFull(int[] sizes, int node) {
+        return sizes[node] == capacity(node);
+    }
+
+    /**
+     * Checks if any node before {@code node} has an empty slot.
+     *
+     * @param sizes the number of elements in each node
+     * @param node the node to look before
+     * @return {@code true} if a predecessor of {@code node} has space
+     */
+    static boolean hasSpaceBefore(int[] sizes, int node) {
+        for(int i = node - 1; i >= 0; --i)
+            if(!isFull(sizes, i)) return true;
+        return false;
+    }
+
+    /**
+     * Finds the rightmost node before {@code node} with an empty slot. Only meaningful if
+     * {@link #hasSpaceBefore(int[], int)}.
+     *
+     * @param sizes the number of elements in each node
+     * @param node the node to look before
+     * @return the rightmost predecessor with space
+     */
+    static int rightmostSpaceBefore(int[] sizes, int node) {
+
+        int rightmostNode = node - 1;
+        while(rightmostNode > 0 && isFull(sizes, rightmostNode)) rightmostNode--;
+
+        return rightmostNode;
+    }
+
+    /**
+     * Shift each element (up to and including the element at {@code finishOffset} in node {@code finishNode}) to
+     * the left, into the rightmost predecessor with space. Leaves a final duplicate of that element.
+     *
+     * @param sizes the number of elements in each node, updated for the shift
+     * @param finishNode the node holding the last element to shift
+     * @param finishOffset the offset of the last element to shift
+     * @param mover moves the elements
+     */
+    static void leftShift(int[] sizes, int finishNode, int finishOffset, Mover mover) {
+
+        int rightmostNode = rightmostSpaceBefore(sizes, finishNode);
+        int toNode = rightmostNode, toOffset = sizes[rightmostNode]++;
+
+        // Carry each node's first element into the last slot of the node before it, then block-move the rest.
+
+        for(int node = rightmostNode + 1; node < finishNode; ++node) {
+            mover.move(node, 0, toNode, toOffset, 1);
+            mover.move(node, 1, node, 0, capacity(node) - 1);
+
+            toNode = node;
+            toOffset = capacity(node) - 1;
+        }
+
+        mover.move(finishNode, 0, toNode, toOffset, 1);
+        mover.move(finishNode, 1, finishNode, 0, finishOffset);
+
+        sizes[finishNode]--;
+    }
+
+    /**
+     * Shift each element (starting with the element at {@code finishOffset} in node {@code finishNode}) to the
+     * right, into the leftmost successor with space. Leaves a final duplicate of that element. If
+     * {@code finishNode} itself has space, only its own elements move, and its size is left to the caller.
+     *
+     * @param sizes the number of elements in each node, updated for the shift
+     * @param finishNode the node holding the first element to shift
+     * @param finishOffset the offset of the first element to shift
+     * @param mover moves the elements
+     */
+    static void rightShift(int[] sizes, int finishNode, int finishOffset, Mover mover) {
+
+        int leftmostNode = finishNode;
+        while(isFull(sizes, leftmostNode)) leftmostNode++;
+
+        if(leftmostNode == finishNode) {
+            mover.move(finishNode, finishOffset, finishNode, finishOffset + 1, sizes[finishNode] - finishOffset);
+            return;
+        }
+
+        mover.move(leftmostNode, 0, leftmostNode, 1, sizes[leftmostNode]);
+        sizes[leftmostNode]++;
+
+        // Carry each node's last element into the first slot of the node after it, then block-move the rest.
+
+        for(int node = leftmostNode - 1; node > finishNode; --node) {
+            mover.move(node, capacity(node) - 1, node + 1, 0, 1);
+            mover.move(node, 0, node, 1, capacity(node) - 1);
+        }
+
+        mover.move(finishNode, capacity(finishNode) - 1, finishNode + 1, 0, 1);
+        mover.move(finishNode, finishOffset, finishNode, finishOffset + 1, capacity(finishNode) - 1 - finishOffset);
+
+        sizes[finishNode]--;
+    }
+
+    /**
+     * Packs the elements towards the front in place, and sets the sizes of the nodes to keep: those holding
+     * elements, plus one empty node. Dropping the nodes after those is left to the caller. Matches
+     * {@link DoublingList}'s compaction.
+     *
+     * @param sizes the number of elements in each node, updated for the nodes kept
+     * @param nodes the number of nodes in the list
+     * @param count the number of elements in the list
+     * @param mover moves the elements
+     * @return the number of nodes to keep
+     */
+    static int compact(int[] sizes, int nodes, int count, Mover mover) {
+
+        int to = 0, toOffset = 0;
+
+        for(int from = 0; from < nodes; ++from) {
+
+            int fromOffset = 0;
+
+            while(fromOffset < sizes[from]) {
+                int run = Math.min(sizes[from] - fromOffset, capacity(to) - toOffset);
+
+                mover.move(from, fromOffset, to, toOffset, run);
+                fromOffset += run;
+                toOffset += run;
+
+                if(toOffset == capacity(to)) {
+                    to++;
+                    toOffset = 0;
+                }
+            }
+        }
+
+        int kept = nodesFor(count) + 1;
+
+        for(int i = 0; i < kept; ++i) sizes[i] = i < to ? capacity(i) : i == to ? toOffset : 0;
+
+        return kept;
+    }
+
+}
@@ -0,0 +1,94 @@
+/**
+ * Decides the capacity of each node a {@link DoublingList} creates. Node {@code k} (counting from {@code 0})
+ * gets an array of {@link #capacity(int) capacity(k)} slots, so the policy controls how much a list grows by
+ * each time it runs out of room, and how large a single node's array can get.
+ *
+ * Capacities must be at least {@code 1} (a list throws an {@code IllegalStateException} when it would create a
+ * smaller node), must never decrease from one node to the next, and must depend only on the node's position,
+ * since a list compacting itself reuses the arrays of its first nodes.
+ *
+ * Only {@link DoublingList} takes a policy. {@link OffHeapDoublingList}, {@link PersistentDoublingList},
+ * {@link ConcurrentDoublingList}, {@link DoublingDeque} and {@link AppendOnlyDoublingList} always lay their
+ * nodes out as {@link #DOUBLING} does, since their node arithmetic depends on it.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * The largest capacity a policy made by this interface gives a node: the largest power of two an array
+     * can hold.
+     */
+    int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Node {@code k} holds {@code 2^k} elements, so the list's capacity doubles (plus one) with each node.
+     * The default.
+     */
+    GrowthPolicy DOUBLING = node -> 1 << Math.min(node, 30);
+
+    /**
+     * Gets the capacity of the node at position {@code node} in the chain.
+     *
+     * @param node the position of the node (0 for the first node)
+     * @return the number of slots in the node's array
+     */
+    int capacity(int node);
+
+    /**
+     * Gets a policy which caps the capacities of this one at {@code maxCapacity}. Once this policy's nodes
+     * reach that size, the list grows by a node of {@code maxCapacity} at a time, so that no single array is
+     * large enough to need a humongous allocation (with G1, half a region or more).
+     *
+     * @throws IllegalArgumentException if {@code maxCapacity} is less than {@code 1}
+     * @param maxCapacity the largest capacity to give a node
+     * @return the capped policy
+     */
+    default GrowthPolicy cappedAt(int maxCapacity) {
+
+        if(maxCapacity < 1) throw new IllegalArgumentException("Node capacities must be at least 1, not " + maxCapacity + ".");
+
+        return node -> Math.min(capacity(node), maxCapacity);
+    }
+
+    /**
+     * Gets a policy where each node is {@code factor} times the size of the one before (rounded up, and at
+     * least one larger), starting from a node of capacity {@code 1}. A factor of {@code 1.5} wastes at most a
+     * third of the last node, rather than half.
+     *
+     * @throws IllegalArgumentException if {@code factor} isn't greater than {@code 1}
+     * @param factor the growth factor
+     * @return the policy
+     */
+    static GrowthPolicy geometric(double factor) {
+
+        if(!(factor > 1)) throw new IllegalArgumentException("The growth factor must be greater than 1, not " + factor + ".");
+
+        return node -> {
+            long capacity = 1;
+
+            for(int k = 0; k < node && capacity < MAX_CAPACITY; ++k)
+                capacity = Math.max(capacity + 1, (long) Math.ceil(capacity * factor));
+
+            return (int) Math.min(capacity, MAX_CAPACITY);
+        };
+    }
+
+    /**
+     * Gets a policy where every node has a capacity of {@code chunk}. The list then wastes less than one chunk,
+     * but has {@code size / chunk} nodes to search.
+     *
+     * @throws IllegalArgumentException if {@code chunk} is less than {@code 1}
+     * @param chunk the capacity of every node
+     * @return the policy
+     */
+    static GrowthPolicy fixed(int chunk) {
+
+        if(chunk < 1) throw new IllegalArgumentException("Node capacities must be at least 1, not " + chunk + ".");
+
+        return node -> chunk;
+    }
+
+}
@@ -0,0 +1,531 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link DoublingList} of primitive {@code int}s. Uses the same layout (nodes whose arrays double in size
+ * each time a new node is added) but stores each node's elements in an {@code int[]}, so elements are never boxed.
+ *
+ * {@code LongDoublingList} and {@code DoubleDoublingList} are generated from this file by
+ * {@code generate-primitive-lists.sh}, which replaces the element type, so make changes here and rerun it.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class IntDoublingList implements Iterable<Integer> {
+
+    private Node head = new Node(0), tail = new Node(0);
+    private int size = 0, cap = 0, nodes = 0;
+
+    // Index over the node chain, as in DoublingList: directory[k] is the k-th node, and sizeTree is a Fenwick
+    // tree over the node sizes.
+    private Node[] directory = new Node[32];
+    private int[] sizeTree = new int[33];
+
+    // Reused by find() so that lookups on the add/remove paths don't allocate. Only structural changes may use
+    // them: getInt and setInt may be called from several threads at once, so they look up into a NodeInfo of
+    // their own.
+    private final NodeInfo found = new NodeInfo(), shiftTarget = new NodeInfo();
+
+    /**
+     * Creates a new, empty {@code IntDoublingList}.
+     */
+    public IntDoublingList() {
+        head.next = tail;
+        tail.prev = head;
+    }
+
+    /**
+     * Gets the size of the list.
+     *
+     * @return the list's size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list has no elements.
+     *
+     * @return {@code true} if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    public int getInt(int index) {
+        NodeInfo info = find(index, new NodeInfo());
+        return info.node.values[info.offset];
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to replace
+     * @param element the element to store at {@code index}
+     * @return the element previously at {@code index}
+     */
+    public int setInt(int index, int element) {
+        NodeInfo info = find(index, new NodeInfo());
+        int previous = info.node.values[info.offset];
+        info.node.values[info.offset] = element;
+        return previous;
+    }
+
+    /**
+     * Adds the given element {@code element} to the end of the list.
+     *
+     * @param element the element to add to the list
+     */
+    public void addInt(int element) {
+        addInt(size, element);
+    }
+
+    /**
+     * Adds the given element {@code element} to the list at index {@code index}. Elements are placed exactly as
+     * {@link DoublingList#add(int, Object)} would place them.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds {@code 0} to {@code size()}
+     * @param index the index to add {@code element} at
+     * @param element the element to add to the list at {@code index}
+     */
+    public void addInt(int index, int element) {
+
+        if(index < 0 || index > size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+
+        // All nodes in the list are full
+        if(size == cap) appendNode();
+
+        if(index == size) {
+
+            Node last = tail.prev;
+            while(last != head && last.size == 0) last = last.prev;
+
+            if(last != head && !last.isFull()) {
+                last.values[last.size] = element;
+                last.setSize(last.size + 1);
+            } else if(hasSpaceBefore(last)) {
+                // Fill the gap in a predecessor so the new element can go at the end of last.
+                leftShift(last, last.size - 1);
+                last.values[last.size] = element;
+                last.setSize(last.size + 1);
+            } else {
+                // Else, an empty successor must exist.
+                last.next.values[0] = element;
+                last.next.setSize(1);
+            }
+
+            size++;
+            return;
+        }
+
+        NodeInfo info = find(index, found);
+
+        if(!info.node.isFull()) {
+            info.node.addShift(info.offset);
+            info.node.values[info.offset] = element;
+            info.node.setSize(info.node.size + 1);
+        } else if(hasSpaceBefore(info.node)) {
+
+            if(info.offset == 0 && !info.node.prev.isFull()) {
+                // The predecessor sits directly before index, so nothing needs to move.
+                Node prev = info.node.prev;
+                prev.values[prev.size] = element;
+                prev.setSize(prev.size + 1);
+            } else {
+                // The element lands where index - 1 was before the shift, which may be in an earlier node.
+                NodeInfo target = find(index - 1, shiftTarget);
+                leftShift(target.node, target.offset);
+                target.node.values[target.offset] = element;
+                target.node.setSize(target.node.size + 1);
+            }
+        } else {
+            // Must be a successor node with space
+            rightShift(info.node, info.offset);
+            info.node.values[info.offset] = element;
+            info.node.setSize(info.node.size + 1);
+        }
+
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at {@code index} from the list.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index where the removal should occur
+     * @return the removed element
+     */
+    public int removeInt(int index) {
+
+        NodeInfo info = find(index, found);
+        int temp = info.node.values[info.offset];
+
+        info.node.setSize(info.node.size - 1);
+        size--;
+
+        if(size == 0) {
+            clear();
+            return temp;
+        }
+
+        info.node.removeShift(info.offset);
+
+        if(size <= (1 << (nodes - 2)) - 1) {
+            // List has too much empty space spread across nodes, so compact this list.
+            compact();
+        }
+
+        return temp;
+    }
+
+    /**
+     * Removes every element from the list, dropping all of its nodes at once.
+     */
+    public void clear() {
+        head.next = tail;
+        tail.prev = head;
+        Arrays.fill(directory, 0, nodes, null);
+        Arrays.fill(sizeTree, 0);
+        size = 0;
+        cap = 0;
+        nodes = 0;
+    }
+
+    /**
+     * Copies the list's elements, in order, into a new array.
+     *
+     * @return an array holding every element of the list
+     */
+    public int[] toIntArray() {
+
+        int[] array = new int[size];
+        int copied = 0;
+
+        for(Node curr = head.next; curr != tail; curr = curr.next) {
+            System.arraycopy(curr.values, 0, array, copied, curr.size);
+            copied += curr.size;
+        }
+
+        return array;
+    }
+
+    /**
+     * Gets an iterator over the list's elements which walks the node arrays directly. Use
+     * {@link PrimitiveIterator.OfInt#nextInt()} to avoid boxing. The list must not be modified while iterating.
+     *
+     * @return an iterator over this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+
+        return new PrimitiveIterator.OfInt() {
+
+            private Node node = head.next;
+            private int offset = 0, returned = 0;
+
+            @Override
+            public boolean hasNext() {
+                return returned < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if(!hasNext()) throw new NoSuchElementException("No next element exists.");
+
+                while(offset >= node.size) {
+                    node = node.next;
+                    offset = 0;
+                }
+
+                returned++;
+                return node.values[offset++];
+            }
+        };
+    }
+
+    /**
+     * Returns each list as a String representation, using "—" to identify empty array spaces, in the same form
+     * as {@link DoublingList#toStringInternal()}.
+     *
+     * @return the String representation of the list
+     */
+    public String toStringInternal() {
+
+        if(size == 0) return "[]";
+
+        StringBuilder builder = new StringBuilder("[");
+
+        for(Node curr = head.next; curr != tail; curr = curr.next) {
+            if(curr != head.next) builder.append(", ");
+            builder.append("(");
+
+            for(int i = 0; i < curr.values.length; ++i) {
+                if(i > 0) builder.append(", ");
+                if(i < curr.size) builder.append(curr.values[i]);
+                else builder.append("—");
+            }
+
+            builder.append(")");
+        }
+
+        return builder.append("]").toString();
+    }
+
+    /**
+     * Checks if any node before {@code node} has an empty slot.
+     *
+     * @param node the node to look before
+     * @return {@code true} if a predecessor of {@code node} has space
+     */
+    private boolean hasSpaceBefore(Node node) {
+        for(Node curr = node.prev; curr != head && curr != null; curr = curr.prev)
+            if(!curr.isFull()) return true;
+        return false;
+    }
+
+    /**
+     * Shift each element (up to and including the element at {@code finishOffset} in {@code finishNode}) to the
+     * left, into the rightmost predecessor with space. Leaves a final duplicate of that element.
+     *
+     * @param finishNode the node holding the last element to shift
+     * @param finishOffset the offset of the last element to shift in {@code finishNode}
+     */
+    private void leftShift(Node finishNode, int finishOffset) {
+
+        Node rightmostNode = finishNode.prev;
+        while(rightmostNode.prev != head && rightmostNode.isFull()) rightmostNode = rightmostNode.prev;
+
+        rightmostNode.setSize(rightmostNode.size + 1);
+
+        // Carry each node's first element into the last slot of the node before it, then block-move the rest.
+
+        Node toNode = rightmostNode, fromNode = rightmostNode.next;
+        int toOffset = rightmostNode.size - 1;
+
+        while(fromNode != finishNode) {
+            toNode.values[toOffset] = fromNode.values[0];
+            System.arraycopy(fromNode.values, 1, fromNode.values, 0, fromNode.values.length - 1);
+
+            toNode = fromNode;
+            toOffset = fromNode.values.length - 1;
+            fromNode = fromNode.next;
+        }
+
+        toNode.values[toOffset] = finishNode.values[0];
+        System.arraycopy(finishNode.values, 1, finishNode.values, 0, finishOffset);
+
+        finishNode.setSize(finishNode.size - 1);
+    }
+
+    /**
+     * Shift each element (starting with the element at {@code finishOffset} in {@code finishNode}) to the right,
+     * into the leftmost successor with space. Leaves a final duplicate of that element.
+     *
+     * @param finishNode the node holding the first element to shift
+     * @param finishOffset the offset of the first element to shift in {@code finishNode}
+     */
+    private void rightShift(Node finishNode, int finishOffset) {
+
+        Node leftmostNode = finishNode;
+        while(leftmostNode.isFull()) leftmostNode = leftmostNode.next;
+
+        if(leftmostNode == finishNode) {
+            finishNode.addShift(finishOffset);
+            return;
+        }
+
+        leftmostNode.addShift(0);
+        leftmostNode.setSize(leftmostNode.size + 1);
+
+        // Carry each node's last element into the first slot of the node after it, then block-move the rest.
+
+        Node toNode = leftmostNode, fromNode = leftmostNode.prev;
+
+        while(fromNode != finishNode) {
+            toNode.values[0] = fromNode.values[fromNode.values.length - 1];
+            System.arraycopy(fromNode.values, 0, fromNode.values, 1, fromNode.values.length - 1);
+
+            toNode = fromNode;
+            fromNode = fromNode.prev;
+        }
+
+        toNode.values[0] = finishNode.values[finishNode.values.length - 1];
+        System.arraycopy(finishNode.values, finishOffset, finishNode.values, finishOffset + 1,
+            finishNode.values.length - 1 - finishOffset);
+
+        finishNode.setSize(finishNode.size - 1);
+    }
+
+    /**
+     * Packs the elements towards the front in place, reusing the existing node arrays, then unlinks all but
+     * one of the nodes left empty. Matches {@link DoublingList}'s compaction.
+     */
+    private void compact() {
+
+        int to = 0, toOffset = 0;
+
+        for(int from = 0; from < nodes; ++from) {
+
+            Node fromNode = directory[from];
+            int fromOffset = 0;
+
+            while(fromOffset < fromNode.size) {
+                Node toNode = directory[to];
+                int run = Math.min(fromNode.size - fromOffset, toNode.values.length - toOffset);
+
+                System.arraycopy(fromNode.values, fromOffset, toNode.values, toOffset, run);
+                fromOffset += run;
+                toOffset += run;
+
+                if(toOffset == toNode.values.length) {
+                    to++;
+                    toOffset = 0;
+                }
+            }
+        }
+
+        int kept = 32 - Integer.numberOfLeadingZeros(size) + 1;
+
+        for(int i = 0; i < kept; ++i) {
+            Node node = directory[i];
+            node.size = i < to ? node.values.length : i == to ? toOffset : 0;
+        }
+
+        for(int i = kept; i < nodes; ++i) directory[i] = null;
+
+        directory[kept - 1].next = tail;
+        tail.prev = directory[kept - 1];
+        nodes = kept;
+        cap = (1 << nodes) - 1;
+
+        Arrays.fill(sizeTree, 0);
+        for(int i = 0; i < nodes; ++i) updateSizeTree(i, directory[i].size);
+    }
+
+    /**
+     * Fills in {@code into} with the node and offset of a given {@code logicalIndex}, binary searching the
+     * node sizes.
+     *
+     * @throws IndexOutOfBoundsException when {@code logicalIndex} is out of the bounds of this list
+     * @param logicalIndex the logicalIndex to locate
+     * @param into the {@code NodeInfo} to fill in
+     * @return {@code into}, now pointing at the given {@code logicalIndex}
+     */
+    private NodeInfo find(int logicalIndex, NodeInfo into) {
+
+        if(logicalIndex < 0 || logicalIndex >= size) throw new IndexOutOfBoundsException("Index " + logicalIndex + " out of bounds for size " + size + ".");
+
+        int position = 0, remaining = logicalIndex;
+
+        for(int step = Integer.highestOneBit(nodes); step > 0; step >>= 1) {
+            if(position + step <= nodes && sizeTree[position + step] <= remaining) {
+                position += step;
+                remaining -= sizeTree[position];
+            }
+        }
+
+        into.node = directory[position];
+        into.offset = remaining;
+        return into;
+    }
+
+    /**
+     * Links a new, empty node with a capacity of {@code 2^nodes} onto the end of the node chain.
+     */
+    private void appendNode() {
+
+        Node newNode = new Node(1 << nodes);
+        newNode.index = nodes;
+        directory[nodes] = newNode;
+        nodes++;
+        cap = (1 << nodes) - 1;
+
+        newNode.next = tail;
+        tail.prev.next = newNode;
+        newNode.prev = tail.prev;
+        tail.prev = newNode;
+    }
+
+    /**
+     * Records a change of {@code delta} elements in the node at position {@code nodeIndex} in the Fenwick tree.
+     *
+     * @param nodeIndex the position of the node in the chain (0 for the first node)
+     * @param delta the change in the node's size
+     */
+    private void updateSizeTree(int nodeIndex, int delta) {
+        for(int i = nodeIndex + 1; i < sizeTree.length; i += i & -i) sizeTree[i] += delta;
+    }
+
+    /**
+     * A single array ("node") in the larger list.
+     */
+    private class Node {
+        int[] values;
+        Node next, prev;
+        int size = 0, index = -1;
+
+        /**
+         * Creates a node with a values array of length {@code capacity}.
+         *
+         * @param capacity the size that this node's array should be initialized to
+         */
+        Node(int capacity) {
+            values = new int[capacity];
+        }
+
+        /**
+         * Sets the size of the node, keeping the Fenwick tree in sync.
+         *
+         * @param size the size to set the node to.
+         */
+        void setSize(int size) {
+            if(index >= 0) updateSizeTree(index, size - this.size);
+            this.size = size;
+        }
+
+        /**
+         * Checks if the node's values array is full.
+         *
+         * @return {@code true} if the node is full, {@code false} otherwise
+         */
+        boolean isFull() {
+            return size == values.length;
+        }
+
+        /**
+         * Shifts each value in the array starting at index {@code offset} up by one.
+         *
+         * @param offset the offset to start the shift at
+         */
+        void addShift(int offset) {
+            System.arraycopy(values, offset, values, offset + 1, size - offset);
+        }
+
+        /**
+         * Shifts each value after index {@code offset} down by one. Expects {@code size} to already be reduced.
+         *
+         * @param offset the offset of the removed value
+         */
+        void removeShift(int offset) {
+            System.arraycopy(values, offset + 1, values, offset, size - offset);
+        }
+    }
+
+    /**
+     * Holds a node and the offset of an element in it.
+     */
+    private class NodeInfo {
+        Node node;
+        int offset;
+    }
+
+}
@@ -0,0 +1,395 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list laid out like {@link DoublingList}, but whose nodes live outside the Java heap. Node {@code k} is a
+ * direct {@link ByteBuffer} holding {@code 2^k} fixed-width records, and a {@link RecordCodec} converts between
+ * elements and records, so the garbage collector never has to trace or copy the elements themselves. Elements
+ * are placed and compacted exactly as {@link DoublingList} would place them.
+ *
+ * Call {@link #close()} once the list is no longer needed. This drops every node, and any later use of the list
+ * throws an {@code IllegalStateException}. Direct buffers are freed by the JVM once they're unreachable.
+ * 
+ * Subclasses can change where node buffers come from (see {@link PersistentDoublingList}) by overriding
+ * {@link #allocateNode(int, int)}, {@link #releaseNode(int)} and {@link #sizesChanged(int[], int)}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element stored
+ */
+public class OffHeapDoublingList<E> extends AbstractList<E> implements RandomAccess, AutoCloseable {
+
+    private final RecordCodec<E> codec;
+    private final int width;
+
+    // buffers[k] is the k-th node and sizes[k] is the number of records in it.
+    private ByteBuffer[] buffers = new ByteBuffer[DoublingNodes.MAX_NODES];
+    private int[] sizes = new int[DoublingNodes.MAX_NODES];
+    private int size = 0, cap = 0, nodes = 0;
+    private boolean closed = false;
+
+    // The element being added, encoded before anything moves. Created along with the first node, so that it
+    // shares the nodes' byte order.
+    private ByteBuffer added;
+
+    // Moves records for the shifts and compaction in DoublingNodes.
+    private final DoublingNodes.Mover mover = this::copy;
+
+    /**
+     * Creates a new, empty {@code OffHeapDoublingList}.
+     *
+     * @param codec the codec used to store elements as records
+     */
+    public OffHeapDoublingList(RecordCodec<E> codec) {
+        this.codec = codec;
+        this.width = codec.width();
+    }
+
+    /**
+     * Gets the size of the list.
+     *
+     * @return the list's size.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the element at {@code index}, decoding it from its record.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to get
+     * @return the element at {@code index}
+     */
+    @Override
+    public E get(int index) {
+        long located = locate(index);
+        return codec.read(buffers[node(located)], offset(located) * width);
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index of the element to replace
+     * @param element the element to store at {@code index}
+     * @return the element previously at {@code index}
+     */
+    @Override
+    public E set(int index, E element) {
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+
+        long located = locate(index);
+        int node = node(located), offset = offset(located);
+        E previous = codec.read(buffers[node], offset * width);
+        codec.write(element, buffers[node], offset * width);
+        return previous;
+    }
+
+    /**
+     * Adds the given element {@code element} to the list at index {@code index}.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds {@code 0} to {@code size()}
+     * @param index the index to add {@code element} at
+     * @param element the element to add to the list at {@code index}
+     */
+    @Override
+    public void add(int index, E element) {
+
+        checkOpen();
+
+        if(element == null) throw new NullPointerException("Null elements are not permitted.");
+        if(index < 0 || index > size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+
+        modCount++;
+
+        // All nodes in the list are full
+        if(size == cap) appendNode();
+
+        // Encode the element first: if the codec throws, no record has been shifted yet and the list is unchanged.
+        if(added == null) added = ByteBuffer.allocate(width).order(buffers[0].order());
+        codec.write(element, added, 0);
+
+        if(index == size) {
+
+            int last = nodes - 1;
+            while(last >= 0 && sizes[last] == 0) last--;
+
+            if(last >= 0 && !DoublingNodes.isFull(sizes, last)) {
+                place(last, sizes[last]++);
+            } else if(DoublingNodes.hasSpaceBefore(sizes, last)) {
+                // Fill the gap in a predecessor so the new element can go at the end of last.
+                DoublingNodes.leftShift(sizes, last, sizes[last] - 1, mover);
+                place(last, sizes[last]++);
+            } else {
+                // Else, an empty successor must exist.
+                place(last + 1, sizes[last + 1]++);
+            }
+
+            size++;
+            sizesChanged(sizes, nodes);
+            return;
+        }
+
+        long located = locate(index);
+        int node = node(located), offset = offset(located);
+
+        if(!DoublingNodes.isFull(sizes, node)) {
+            copy(node, offset, node, offset + 1, sizes[node] - offset);
+            place(node, offset);
+            sizes[node]++;
+        } else if(DoublingNodes.hasSpaceBefore(sizes, node)) {
+
+            if(offset == 0 && !DoublingNodes.isFull(sizes, node - 1)) {
+                // The predecessor sits directly before index, so nothing needs to move.
+                place(node - 1, sizes[node - 1]++);
+            } else {
+                // The element lands where index - 1 was before the shift, which may be in an earlier node.
+                long before = locate(index - 1);
+                int target = node(before), targetOffset = offset(before);
+                DoublingNodes.leftShift(sizes, target, targetOffset, mover);
+                place(target, targetOffset);
+                sizes[target]++;
+            }
+        } else {
+            // Must be a successor node with space
+            DoublingNodes.rightShift(sizes, node, offset, mover);
+            place(node, offset);
+            sizes[node]++;
+        }
+
+        size++;
+        sizesChanged(sizes, nodes);
+    }
+
+    /**
+     * Removes and returns the element at {@code index} from the list.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list ({@code 0} to {@code size() - 1})
+     * @param index the index where the removal should occur
+     * @return the removed element
+     */
+    @Override
+    public E remove(int index) {
+
+        long located = locate(index);
+        int node = node(located), offset = offset(located);
+        E temp = codec.read(buffers[node], offset * width);
+
+        modCount++;
+
+        copy(node, offset + 1, node, offset, sizes[node] - offset - 1);
+        sizes[node]--;
+        size--;
+
+        if(size == 0) {
+            dropNodes(0);
+        } else if(DoublingNodes.shouldCompact(size, nodes)) {
+            // List has too much empty space spread across nodes, so compact this list, reusing the node buffers.
+            dropNodes(DoublingNodes.compact(sizes, nodes, size, mover));
+        }
+
+        sizesChanged(sizes, nodes);
+        return temp;
+    }
+
+    /**
+     * Removes every element from the list, dropping all of its nodes at once.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        modCount++;
+        dropNodes(0);
+        sizesChanged(sizes, nodes);
+    }
+
+    /**
+     * Drops every node. Any later use of the list throws an {@code IllegalStateException}. Closing an already
+     * closed list has no effect. Nodes dropped here are not passed to {@link #releaseNode(int)}, since the
+     * elements haven't been removed.
+     */
+    @Override
+    public void close() {
+
+        if(closed) return;
+
+        Arrays.fill(buffers, null);
+        Arrays.fill(sizes, 0);
+        size = 0;
+        cap = 0;
+        nodes = 0;
+        closed = true;
+    }
+
+    /**
+     * Creates the buffer for a new node. Called whenever the list grows by a node. By default, allocates a
+     * direct buffer in the platform's byte order.
+     *
+     * @param node the index of the new node
+     * @param bytes the size of the buffer needed, in bytes
+     * @return a buffer of exactly {@code bytes} bytes
+     */
+    protected ByteBuffer allocateNode(int node, int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Called after a node has been dropped from the end of the list, by compaction, {@link #clear()} or removing
+     * the last element. Does nothing by default.
+     *
+     * @param node the index of the dropped node
+     */
+    protected void releaseNode(int node) {
+    }
+
+    /**
+     * Called at the end of every structural modification, after all records have been written. Does nothing
+     * by default.
+     *
+     * @param sizes the number of records in each node (must not be modified)
+     * @param nodes the number of nodes in the list
+     */
+    protected void sizesChanged(int[] sizes, int nodes) {
+    }
+
+    /**
+     * Replaces the contents of this (empty) list with existing nodes, for instance ones read back from disk.
+     *
+     * @throws IllegalStateException if the list isn't empty
+     * @throws IllegalArgumentException if a buffer or size doesn't fit its node
+     * @param nodeBuffers the buffer of each node, in order (node {@code k} must hold {@code 2^k} records)
+     * @param nodeSizes the number of records in use in each node
+     */
+    protected void restore(ByteBuffer[] nodeBuffers, int[] nodeSizes) {
+
+        checkOpen();
+
+        if(nodes > 0) throw new IllegalStateException("Only an empty list can be restored.");
+
+        for(int i = 0; i < nodeBuffers.length; ++i) {
+            if(nodeBuffers[i].capacity() != width << i || nodeSizes[i] < 0 || nodeSizes[i] > DoublingNodes.capacity(i))
+                throw new IllegalArgumentException("Node " + i + " doesn't fit a list of this record width.");
+
+            buffers[i] = nodeBuffers[i];
+            sizes[i] = nodeSizes[i];
+            size += nodeSizes[i];
+        }
+
+        nodes = nodeBuffers.length;
+        cap = DoublingNodes.totalCapacity(nodes);
+        modCount++;
+    }
+
+    /**
+     * Finds the node holding {@code index}, scanning the node sizes. The node and the offset within it are
+     * packed into one {@code long} (unpack them with {@link #node(long)} and {@link #offset(long)}), so that
+     * concurrent readers never share the result.
+     *
+     * @throws IndexOutOfBoundsException when {@code index} is out of the bounds of this list
+     * @param index the logical index to locate
+     * @return the node holding {@code index} in the high 32 bits, and its offset in the low 32 bits
+     */
+    private long locate(int index) {
+
+        checkOpen();
+
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size + ".");
+
+        int node = 0;
+        while(index >= sizes[node]) index -= sizes[node++];
+
+        return (long) node << 32 | index;
+    }
+
+    /**
+     * Unpacks the node from a result of {@link #locate(int)}.
+     *
+     * @param located the packed node and offset
+     * @return the node
+     */
+    private static int node(long located) {
+        return (int) (located >>> 32);
+    }
+
+    /**
+     * Unpacks the offset within its node from a result of {@link #locate(int)}.
+     *
+     * @param located the packed node and offset
+     * @return the offset
+     */
+    private static int offset(long located) {
+        return (int) located;
+    }
+
+    /**
+     * Allocates a new, empty node with a capacity of {@code 2^nodes} records on the end of the list.
+     *
+     * @throws IllegalStateException if the node would be larger than a single buffer can be
+     */
+    private void appendNode() {
+
+        long bytes = (long) width << nodes;
+        if(bytes > Integer.MAX_VALUE) throw new IllegalStateException("The list cannot grow past " + size + " elements.");
+
+        buffers[nodes] = allocateNode(nodes, (int) bytes);
+        sizes[nodes] = 0;
+        nodes++;
+        cap = DoublingNodes.totalCapacity(nodes);
+    }
+
+    /**
+     * Drops every node from {@code first} onwards, and resets the size if that's all of them.
+     *
+     * @param first the index of the first node to drop
+     */
+    private void dropNodes(int first) {
+
+        for(int i = nodes - 1; i >= first; --i) releaseNode(i);
+
+        Arrays.fill(buffers, first, nodes, null);
+        Arrays.fill(sizes, first, nodes, 0);
+        nodes = first;
+        cap = DoublingNodes.totalCapacity(nodes);
+
+        if(first == 0) size = 0;
+    }
+
+    /**
+     * Copies {@code records} records between (or within) nodes. Overlapping ranges are handled correctly.
+     *
+     * @param fromNode the node to copy from
+     * @param fromOffset the first record to copy
+     * @param toNode the node to copy to
+     * @param toOffset the record to copy the first record to
+     * @param records the number of records to copy
+     */
+    private void copy(int fromNode, int fromOffset, int toNode, int toOffset, int records) {
+        if(records > 0) buffers[toNode].put(toOffset * width, buffers[fromNode], fromOffset * width, records * width);
+    }
+
+    /**
+     * Copies the record encoded by {@link #add(int, Object)} into a record slot.
+     *
+     * @param node the node to write to
+     * @param offset the record slot within the node
+     */
+    private void place(int node, int offset) {
+        buffers[node].put(offset * width, added, 0, width);
+    }
+
+    /**
+     * Throws if the list has been closed.
+     *
+     * @throws IllegalStateException if {@link #close()} has been called
+     */
+    private void checkOpen() {
+        if(closed) throw new IllegalStateException("The list has been closed.");
+    }
+
+}
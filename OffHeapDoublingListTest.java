@@ -0,0 +1,172 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for {@link OffHeapDoublingList}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class OffHeapDoublingListTest {
+
+    public OffHeapDoublingList<Long> list;
+
+    public OffHeapDoublingListTest() { }
+
+    @BeforeEach
+    public void setUp() {
+        list = new OffHeapDoublingList<Long>(RecordCodec.LONG);
+    }
+
+    /**
+     * Tests {@link OffHeapDoublingList#add(int, Object)}, {@link OffHeapDoublingList#remove(int)},
+     * {@link OffHeapDoublingList#get(int)} and {@link OffHeapDoublingList#set(int, Object)} against an
+     * {@code ArrayList}, over a long run of random operations which grows and compacts the list many times.
+     */
+    @Test
+    @DisplayName("add(int, E), remove(int), get(int) and set(int, E)")
+    public void testMatchesArrayList() {
+
+        List<Long> expected = new ArrayList<Long>();
+        Random random = new Random(42);
+
+        for(int i = 0; i < 20000; ++i) {
+            int operation = random.nextInt(10);
+
+            if(expected.isEmpty() || operation < 5) {
+                int index = random.nextInt(expected.size() + 1);
+                long element = random.nextLong();
+                expected.add(index, element);
+                list.add(index, element);
+            } else if(operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, (long) i), list.set(index, (long) i));
+            }
+
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, list);
+    }
+
+    /**
+     * Tests the other codecs, and that {@code null} elements and out-of-bounds indices are rejected.
+     */
+    @Test
+    @DisplayName("Codecs, null elements and bounds")
+    public void testCodecsAndEdgeCases() {
+
+        OffHeapDoublingList<Double> doubles = new OffHeapDoublingList<Double>(RecordCodec.DOUBLE);
+        OffHeapDoublingList<Integer> ints = new OffHeapDoublingList<Integer>(RecordCodec.INTEGER);
+
+        for(int i = 0; i < 100; ++i) {
+            doubles.add(i + 0.25);
+            ints.add(0, i);
+        }
+
+        assertEquals(42.25, doubles.get(42));
+        assertEquals(99, ints.get(0));
+        assertEquals(0, ints.get(99));
+
+        // NullPointer test
+
+        boolean nullPointer = false;
+
+        try {
+            list.add(null);
+        } catch (NullPointerException e) {
+            nullPointer = true;
+        }
+
+        assertTrue(nullPointer);
+
+        // Out-of-bounds test
+
+        boolean outOfBounds = false;
+
+        try {
+            ints.get(100);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+
+        assertTrue(outOfBounds);
+    }
+
+    /**
+     * Tests {@link OffHeapDoublingList#clear()} and {@link OffHeapDoublingList#close()}.
+     */
+    @Test
+    @DisplayName("clear() and close()")
+    public void testClearAndClose() {
+
+        for(long i = 0; i < 10; ++i) list.add(i);
+
+        list.clear();
+        assertEquals(0, list.size());
+
+        list.add(7L);
+        assertEquals(7L, list.get(0));
+
+        list.close();
+        list.close();
+
+        boolean illegalState = false;
+
+        try {
+            list.get(0);
+        } catch (IllegalStateException e) {
+            illegalState = true;
+        }
+
+        assertTrue(illegalState);
+        illegalState = false;
+
+        try {
+            list.add(1L);
+        } catch (IllegalStateException e) {
+            illegalState = true;
+        }
+
+        assertTrue(illegalState);
+    }
+
+    /**
+     * Tests that {@link OffHeapDoublingList#get(int)} can be called from several threads at once.
+     */
+    @Test
+    @DisplayName("Concurrent get(int)")
+    public void testConcurrentReads() throws InterruptedException {
+
+        for(long i = 0; i < 10000; ++i) list.add(i);
+
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] readers = new Thread[4];
+
+        for(int t = 0; t < readers.length; ++t) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+
+                for(int i = 0; i < 200000; ++i) {
+                    int index = random.nextInt(list.size());
+                    if(list.get(index) != index) wrong.incrementAndGet();
+                }
+            });
+            readers[t].start();
+        }
+
+        for(Thread reader : readers) reader.join();
+
+        assertEquals(0, wrong.get());
+    }
+}
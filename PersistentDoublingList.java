@@ -0,0 +1,232 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An {@link OffHeapDoublingList} stored in a directory on disk, so that it can be reopened without re-adding
+ * every element. Node {@code k} is the file {@code node-k}, exactly {@code 2^k} records long and mapped into
+ * memory with {@link FileChannel#map}. A small {@code header} file records the record width, the number of
+ * nodes and the number of records in use in each node, so opening a list costs {@code O(nodes)} no matter how
+ * many elements it holds.
+ *
+ * An append survives a crash of the process, since the operating system's page cache keeps every write made to
+ * the mappings: the record is written after every counted one before the header counts it, and a node file is
+ * always created before the header mentions it. The exception is an append which first has to shift elements
+ * into a gap left by a removal (when the last node is full but an earlier one isn't). That, like any insertion
+ * or removal, moves records the header already counts, so a crash part way through can lose or duplicate
+ * elements. If a node file turns out to be shorter than the header says (for instance, because it was
+ * truncated mid-write), opening the list keeps only the complete records in it.
+ *
+ * A codec that throws is not a crash: {@link #add(int, Object)} encodes the element before moving anything, so
+ * a failed add leaves both the list and its files as they were.
+ *
+ * That ordering doesn't hold on the storage device, though. The node files and the header are separate
+ * mappings which the operating system writes back in any order, so after a power loss or an operating system
+ * crash the header may count records that never reached the disk. Only the state as of the last
+ * {@link #force()}, with no changes since, is safe against that. {@link #close()} also forces.
+ *
+ * Records are stored little-endian.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element stored
+ */
+public class PersistentDoublingList<E> extends OffHeapDoublingList<E> {
+
+    // Header layout: magic, record width, node count, then the size of each of the 32 possible nodes.
+    private static final int MAGIC = 0x444C5354, HEADER_BYTES = 12 + 4 * 32;
+
+    private final Path directory;
+    private final int width;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] mapped = new MappedByteBuffer[32];
+
+    /**
+     * Creates a list stored in {@code directory}. Use {@link #open(Path, RecordCodec)}.
+     *
+     * @param directory the directory holding the list's files
+     * @param codec the codec used to store elements as records
+     * @param header the mapped header file
+     */
+    private PersistentDoublingList(Path directory, RecordCodec<E> codec, MappedByteBuffer header) {
+        super(codec);
+        this.directory = directory;
+        this.width = codec.width();
+        this.header = header;
+    }
+
+    /**
+     * Opens the list stored in {@code directory}, creating an empty one if the directory holds no list yet.
+     *
+     * @throws IOException if the files can't be read or created, or don't hold a list of this record width
+     * @param directory the directory holding the list's files
+     * @param codec the codec used to store elements as records (must match the one the list was created with)
+     * @param <E> the type of element stored
+     * @return the opened list
+     */
+    public static <E> PersistentDoublingList<E> open(Path directory, RecordCodec<E> codec) throws IOException {
+
+        Files.createDirectories(directory);
+        Path headerFile = directory.resolve("header");
+
+        if(Files.exists(headerFile) && Files.size(headerFile) < HEADER_BYTES)
+            throw new IOException("The header in " + directory + " is truncated.");
+
+        PersistentDoublingList<E> list = new PersistentDoublingList<>(directory, codec, map(headerFile, HEADER_BYTES));
+
+        // A header which was never written is all zeros.
+        if(list.header.getInt(0) == 0) list.writeHeader(new int[0], 0);
+        else list.load();
+
+        return list;
+    }
+
+    /**
+     * Flushes every change made to the list to the storage device. The node files are forced before the header,
+     * so that the header never counts a record the device doesn't have yet.
+     */
+    public void force() {
+        for(MappedByteBuffer buffer : mapped)
+            if(buffer != null) buffer.force();
+        header.force();
+    }
+
+    /**
+     * Flushes every change to the storage device, then closes the list. The files are kept, so the list can be
+     * opened again.
+     */
+    @Override
+    public void close() {
+        force();
+        Arrays.fill(mapped, null);
+        super.close();
+    }
+
+    /**
+     * Creates (or reuses) the file for node {@code node} and maps it.
+     *
+     * @param node the index of the new node
+     * @param bytes the size of the file needed, in bytes
+     * @return the mapped file
+     */
+    @Override
+    protected ByteBuffer allocateNode(int node, int bytes) {
+        try {
+            mapped[node] = map(nodeFile(node), bytes);
+            return mapped[node];
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the file for a node dropped from the end of the list.
+     *
+     * @param node the index of the dropped node
+     */
+    @Override
+    protected void releaseNode(int node) {
+
+        mapped[node] = null;
+
+        try {
+            Files.deleteIfExists(nodeFile(node));
+        } catch(IOException e) {
+            // Some platforms refuse to delete a file which is still mapped. The header no longer counts the
+            // node, and the file is reused as is if the list grows back, so it's safe to leave behind.
+        }
+    }
+
+    /**
+     * Records the new node sizes in the header.
+     *
+     * @param sizes the number of records in each node
+     * @param nodes the number of nodes in the list
+     */
+    @Override
+    protected void sizesChanged(int[] sizes, int nodes) {
+        writeHeader(sizes, nodes);
+    }
+
+    /**
+     * Reads the header and maps every node file, keeping only the complete records of any truncated node.
+     *
+     * @throws IOException if the header doesn't describe a list of this record width
+     */
+    private void load() throws IOException {
+
+        if(header.getInt(0) != MAGIC) throw new IOException(directory + " doesn't hold a DoublingList.");
+        if(header.getInt(4) != width) throw new IOException("The list in " + directory + " has records of " + header.getInt(4) + " bytes, not " + width + ".");
+
+        int nodes = header.getInt(8);
+        if(nodes < 0 || nodes > 31) throw new IOException("The header in " + directory + " is corrupt.");
+
+        ByteBuffer[] buffers = new ByteBuffer[nodes];
+        int[] sizes = new int[nodes];
+        boolean repaired = false;
+
+        for(int k = 0; k < nodes; ++k) {
+            Path file = nodeFile(k);
+            long complete = Files.exists(file) ? Files.size(file) / width : 0;
+            int recorded = header.getInt(12 + 4 * k);
+
+            sizes[k] = (int) Math.max(0, Math.min(recorded, Math.min(complete, 1L << k)));
+            repaired |= sizes[k] != recorded;
+
+            buffers[k] = allocateNode(k, width << k);
+        }
+
+        restore(buffers, sizes);
+
+        if(repaired) writeHeader(sizes, nodes);
+    }
+
+    /**
+     * Writes the header. Node sizes are written before the node count, since the count is what makes a newly
+     * added node part of the list.
+     *
+     * @param sizes the number of records in each node
+     * @param nodes the number of nodes in the list
+     */
+    private void writeHeader(int[] sizes, int nodes) {
+        header.putInt(0, MAGIC);
+        header.putInt(4, width);
+        for(int k = 0; k < nodes; ++k) header.putInt(12 + 4 * k, sizes[k]);
+        header.putInt(8, nodes);
+    }
+
+    /**
+     * Gets the path of a node's file.
+     *
+     * @param node the index of the node
+     * @return the node's file
+     */
+    private Path nodeFile(int node) {
+        return directory.resolve("node-" + node);
+    }
+
+    /**
+     * Maps the first {@code bytes} bytes of {@code file} for reading and writing, creating or extending the file
+     * as needed.
+     *
+     * @throws IOException if the file can't be opened or mapped
+     * @param file the file to map
+     * @param bytes the number of bytes to map
+     * @return the mapped file, in little-endian byte order
+     */
+    private static MappedByteBuffer map(Path file, int bytes) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test class for {@link PersistentDoublingList}.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class PersistentDoublingListTest {
+
+    public Path directory;
+
+    public PersistentDoublingListTest() { }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("doubling-list");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try(Stream<Path> files = Files.walk(directory)) {
+            for(Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that a list can be closed and reopened with the same elements, including after insertions in the
+     * middle and removals which compact the list.
+     */
+    @Test
+    @DisplayName("Close and reopen")
+    public void testReopen() throws IOException {
+
+        List<Long> expected = new ArrayList<Long>();
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(0, list.size());
+
+            for(long i = 0; i < 1000; ++i) {
+                list.add(i);
+                expected.add(i);
+            }
+
+            list.add(500, -1L);
+            expected.add(500, -1L);
+        }
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(expected, list);
+
+            // Compacts the list, dropping the files of the trailing nodes
+            for(int i = 0; i < 900; ++i) assertEquals(expected.remove(0), list.remove(0));
+        }
+
+        assertFalse(Files.exists(directory.resolve("node-9")));
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(expected, list);
+        }
+    }
+
+    /**
+     * Tests recovery from a crash while appending: the last node's file is truncated part way through a record,
+     * without the list being closed. Reopening keeps every complete record and nothing after it.
+     */
+    @Test
+    @DisplayName("Recovery from a truncated node file")
+    public void testTruncatedNode() throws IOException {
+
+        PersistentDoublingList<Long> crashed = PersistentDoublingList.open(directory, RecordCodec.LONG);
+        for(long i = 0; i < 20; ++i) crashed.add(i);
+
+        // Elements 15 to 19 are in node 4 (offsets 0 to 4). Cut it off half way through element 18.
+        try(FileChannel channel = FileChannel.open(directory.resolve("node-4"), StandardOpenOption.WRITE)) {
+            channel.truncate(3 * Long.BYTES + Long.BYTES / 2);
+        }
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(18, list.size());
+            for(int i = 0; i < 18; ++i) assertEquals((long) i, list.get(i));
+
+            // Appending carries on after the last complete record
+            list.add(100L);
+            assertEquals(100L, list.get(18));
+        }
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(19, list.size());
+        }
+    }
+
+    /**
+     * Tests recovery from a crash while a new node's file was being created: the file is missing entirely,
+     * so every element the header counted in it is dropped.
+     */
+    @Test
+    @DisplayName("Recovery from a missing node file")
+    public void testMissingNode() throws IOException {
+
+        PersistentDoublingList<Long> crashed = PersistentDoublingList.open(directory, RecordCodec.LONG);
+        for(long i = 0; i < 9; ++i) crashed.add(i);
+
+        Files.delete(directory.resolve("node-3"));
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L), list);
+        }
+    }
+
+    /**
+     * Tests an append interrupted by the codec when it has to shift elements into a gap left by a removal first.
+     * The element is encoded before anything moves, so neither the list nor its files change.
+     */
+    @Test
+    @DisplayName("Append interrupted after a removal")
+    public void testInterruptedAppend() throws IOException {
+
+        // Refuses to encode -1
+        RecordCodec<Long> picky = new RecordCodec<Long>() {
+            public int width() { return Long.BYTES; }
+            public void write(Long element, ByteBuffer buffer, int position) {
+                if(element == -1) throw new IllegalArgumentException("Can't encode -1.");
+                RecordCodec.LONG.write(element, buffer, position);
+            }
+            public Long read(ByteBuffer buffer, int position) { return RecordCodec.LONG.read(buffer, position); }
+        };
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, picky)) {
+            for(long i = 0; i < 7; ++i) list.add(i);
+
+            // Node 0 is now empty and nodes 1 and 2 are full, so an append has to shift into node 0 first
+            list.remove(0);
+
+            boolean thrown = false;
+
+            try {
+                list.add(-1L);
+            } catch(IllegalArgumentException e) {
+                thrown = true;
+            }
+
+            assertTrue(thrown);
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), list);
+        }
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, picky)) {
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), list);
+
+            list.add(7L);
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), list);
+        }
+    }
+
+    /**
+     * Tests that a truncated header, or a list opened with the wrong record width, is reported.
+     */
+    @Test
+    @DisplayName("Corrupt or mismatched headers")
+    public void testBadHeader() throws IOException {
+
+        try(PersistentDoublingList<Long> list = PersistentDoublingList.open(directory, RecordCodec.LONG)) {
+            list.add(1L);
+        }
+
+        boolean thrown = false;
+
+        try {
+            PersistentDoublingList.open(directory, RecordCodec.INTEGER);
+        } catch(IOException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+
+        try(FileChannel channel = FileChannel.open(directory.resolve("header"), StandardOpenOption.WRITE)) {
+            channel.truncate(10);
+        }
+
+        thrown = false;
+
+        try {
+            PersistentDoublingList.open(directory, RecordCodec.LONG);
+        } catch(IOException e) {
+            thrown = true;
+        }
+
+        assertTrue(thrown);
+    }
+
+}
@@ -0,0 +1,226 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Test class for {@link IntDoublingList}, {@link LongDoublingList} and {@link DoubleDoublingList}. The long and
+ * double lists are generated from the int list, so most behaviour is only tested once.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ */
+public class PrimitiveDoublingListTest {
+
+    public IntDoublingList list;
+
+    public PrimitiveDoublingListTest() { }
+
+    @BeforeEach
+    public void setUp() {
+        list = new IntDoublingList();
+    }
+
+    /**
+     * Tests {@link IntDoublingList#addInt(int, int)} and {@link IntDoublingList#removeInt(int)} against the
+     * figures from the project spec, checking the same layout as {@link DoublingList}.
+     */
+    @Test
+    @DisplayName("addInt(int, int) and removeInt(int)")
+    public void testAddAndRemove() {
+
+        list.addInt(0, 1);
+        assertEquals("[(1)]", list.toStringInternal());
+
+        list.addInt(2);
+        list.addInt(3);
+        assertEquals("[(1), (2, 3)]", list.toStringInternal());
+
+        for(int i = 4; i <= 9; ++i) list.addInt(i);
+
+        // Figure 10
+        assertEquals(5, list.removeInt(4));
+        assertEquals("[(1), (2, 3), (4, 6, 7, —), (8, 9, —, —, —, —, —, —)]", list.toStringInternal());
+
+        // Figure 5
+        list.addInt(3, 0);
+        assertEquals("[(1), (2, 3), (0, 4, 6, 7), (8, 9, —, —, —, —, —, —)]", list.toStringInternal());
+
+        // Resizing
+        for(int i = 0; i < 7; ++i) list.removeInt(1);
+        assertEquals("[(1), (9, —), (—, —, —, —)]", list.toStringInternal());
+
+        assertEquals(2, list.size());
+        assertEquals(1, list.getInt(0));
+        assertEquals(9, list.getInt(1));
+
+        // Out-of-bounds tests
+
+        boolean outOfBounds = false;
+
+        try {
+            list.removeInt(2);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+
+        assertTrue(outOfBounds);
+        outOfBounds = false;
+
+        try {
+            list.addInt(3, 0);
+        } catch (IndexOutOfBoundsException e) {
+            outOfBounds = true;
+        }
+
+        assertTrue(outOfBounds);
+    }
+
+    /**
+     * Tests that {@link IntDoublingList} lays its elements out exactly as {@link DoublingList} does, over a long
+     * run of random insertions and removals.
+     */
+    @Test
+    @DisplayName("Same layout as DoublingList")
+    public void testMatchesDoublingList() {
+
+        DoublingList<Integer> expected = new DoublingList<Integer>();
+        Random random = new Random(42);
+
+        for(int i = 0; i < 3000; ++i) {
+            if(expected.isEmpty() || random.nextInt(3) != 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.addInt(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals((int) expected.remove(index), list.removeInt(index));
+            }
+
+            assertEquals(expected.toStringInternal(), list.toStringInternal());
+        }
+    }
+
+    /**
+     * Tests {@link IntDoublingList#setInt(int, int)}, {@link IntDoublingList#toIntArray()} and
+     * {@link IntDoublingList#iterator()}, and the equivalent methods of the long and double lists.
+     */
+    @Test
+    @DisplayName("setInt(int, int), toIntArray() and iterator()")
+    public void testSetArrayAndIterator() {
+
+        LongDoublingList longs = new LongDoublingList();
+        DoubleDoublingList doubles = new DoubleDoublingList();
+
+        for(int i = 0; i < 10; ++i) {
+            list.addInt(i);
+            longs.addLong(i + 10_000_000_000L);
+            doubles.addDouble(i + 0.5);
+        }
+
+        list.removeInt(1);
+        list.removeInt(1);
+        assertEquals(4, list.setInt(2, 40));
+        assertArrayEquals(new int[] {0, 3, 40, 5, 6, 7, 8, 9}, list.toIntArray());
+
+        PrimitiveIterator.OfInt iter = list.iterator();
+        for(int expected : list.toIntArray()) assertEquals(expected, iter.nextInt());
+        assertFalse(iter.hasNext());
+
+        boolean noSuch = false;
+
+        try {
+            iter.nextInt();
+        } catch(NoSuchElementException e) {
+            noSuch = true;
+        }
+
+        assertTrue(noSuch);
+
+        assertEquals(10_000_000_009L, longs.setLong(9, 1L));
+        assertEquals(10_000_000_000L, longs.iterator().nextLong());
+        assertEquals(1L, longs.toLongArray()[9]);
+
+        assertEquals(3.5, doubles.removeDouble(3));
+        assertEquals(4.5, doubles.getDouble(3));
+        assertEquals(9, doubles.toDoubleArray().length);
+    }
+
+    /**
+     * Tests that each list's memory footprint per element is close to the primitive's width. Measures the bytes
+     * this thread allocates while filling each list, using HotSpot's {@code ThreadMXBean}. Node capacities
+     * double, so at most about twice the primitive width is expected, versus well over 16 bytes per element
+     * for a {@code DoublingList} of boxed values. Skipped on JVMs which don't support allocation measurement.
+     */
+    @Test
+    @DisplayName("Footprint per element")
+    public void testFootprint() {
+
+        if(!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) return;
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if(!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) return;
+
+        int n = 1 << 20;
+        long threadId = Thread.currentThread().getId();
+
+        long before = bean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < n; ++i) list.addInt(i);
+        double intBytes = (double) (bean.getThreadAllocatedBytes(threadId) - before) / n;
+
+        LongDoublingList longs = new LongDoublingList();
+        before = bean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < n; ++i) longs.addLong(i);
+        double longBytes = (double) (bean.getThreadAllocatedBytes(threadId) - before) / n;
+
+        DoubleDoublingList doubles = new DoubleDoublingList();
+        before = bean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < n; ++i) doubles.addDouble(i);
+        double doubleBytes = (double) (bean.getThreadAllocatedBytes(threadId) - before) / n;
+
+        DoublingList<Integer> boxed = new DoublingList<Integer>();
+        before = bean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < n; ++i) boxed.add(i + 1000);
+        double boxedBytes = (double) (bean.getThreadAllocatedBytes(threadId) - before) / n;
+
+        assertTrue(intBytes <= 2 * 4 + 0.5, intBytes + " bytes per int");
+        assertTrue(longBytes <= 2 * 8 + 0.5, longBytes + " bytes per long");
+        assertTrue(doubleBytes <= 2 * 8 + 0.5, doubleBytes + " bytes per double");
+        assertTrue(boxedBytes > 16, boxedBytes + " bytes per boxed Integer");
+    }
+
+    /**
+     * Tests that {@link IntDoublingList#getInt(int)} can be called from several threads at once.
+     */
+    @Test
+    @DisplayName("Concurrent getInt(int)")
+    public void testConcurrentReads() throws InterruptedException {
+
+        for(int i = 0; i < 10000; ++i) list.addInt(i);
+
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] readers = new Thread[4];
+
+        for(int t = 0; t < readers.length; ++t) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+
+                for(int i = 0; i < 200000; ++i) {
+                    int index = random.nextInt(list.size());
+                    if(list.getInt(index) != index) wrong.incrementAndGet();
+                }
+            });
+            readers[t].start();
+        }
+
+        for(Thread reader : readers) reader.join();
+
+        assertEquals(0, wrong.get());
+    }
+}
@@ -0,0 +1,68 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from fixed-width records in a {@link ByteBuffer}, so that lists such as
+ * {@link OffHeapDoublingList} can store them outside the Java heap. Every record written by a codec takes up
+ * exactly {@link #width()} bytes, and uses the buffer's byte order.
+ *
+ * @author Jackson Eshbaugh
+ * @version 10/18/2026
+ * @param <E> the type of element encoded
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Stores {@code Integer}s as 4-byte ints.
+     */
+    RecordCodec<Integer> INTEGER = new RecordCodec<Integer>() {
+        public int width() { return Integer.BYTES; }
+        public void write(Integer element, ByteBuffer buffer, int position) { buffer.putInt(position, element); }
+        public Integer read(ByteBuffer buffer, int position) { return buffer.getInt(position); }
+    };
+
+    /**
+     * Stores {@code Long}s as 8-byte longs.
+     */
+    RecordCodec<Long> LONG = new RecordCodec<Long>() {
+        public int width() { return Long.BYTES; }
+        public void write(Long element, ByteBuffer buffer, int position) { buffer.putLong(position, element); }
+        public Long read(ByteBuffer buffer, int position) { return buffer.getLong(position); }
+    };
+
+    /**
+     * Stores {@code Double}s as 8-byte doubles.
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+        public int width() { return Double.BYTES; }
+        public void write(Double element, ByteBuffer buffer, int position) { buffer.putDouble(position, element); }
+        public Double read(ByteBuffer buffer, int position) { return buffer.getDouble(position); }
+    };
+
+    /**
+     * Gets the number of bytes each record takes up.
+     *
+     * @return the width of a record, in bytes
+     */
+    int width();
+
+    /**
+     * Writes {@code element} as a record starting at byte {@code position} of {@code buffer}. Must not change
+     * the buffer's position or limit.
+     *
+     * @param element the element to write (never {@code null})
+     * @param buffer the buffer to write to
+     * @param position the byte offset to write the record at
+     */
+    void write(E element, ByteBuffer buffer, int position);
+
+    /**
+     * Reads the record starting at byte {@code position} of {@code buffer}. Must not change the buffer's
+     * position or limit.
+     *
+     * @param buffer the buffer to read from
+     * @param position the byte offset of the record
+     * @return the decoded element
+     */
+    E read(ByteBuffer buffer, int position);
+
+}
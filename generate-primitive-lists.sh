@@ -0,0 +1,33 @@
+#!/bin/sh
+# Regenerates LongDoublingList.java and DoubleDoublingList.java from IntDoublingList.java, which is the only
+# one of the three to edit by hand. Run from the directory holding the sources:
+#
+#     sh generate-primitive-lists.sh
+#
+# Only the element type changes: int stays int wherever it's an index, size or offset, so each rule below
+# matches one of the places IntDoublingList uses int as the element type. Needs GNU sed.
+
+generate() {
+    type=$1 primitive=$2
+
+    sed -e "s/{@code int}s/{@code $primitive}s/" \
+        -e "s/in an {@code int\[\]}/in a {@code $primitive[]}/" \
+        -e '/^ \* {@code LongDoublingList} and {@code DoubleDoublingList} are generated/,/^ \* {@code generate-primitive-lists.sh}, which replaces/c\
+ * Generated from {@code IntDoublingList} by {@code generate-primitive-lists.sh}; make changes there and rerun it.' \
+        -e "s/public int \(get\|set\|remove\)Int(/public $primitive \1Int(/" \
+        -e "s/public int\[\] toIntArray()/public $primitive[] toIntArray()/" \
+        -e "s/public int nextInt()/public $primitive nextInt()/" \
+        -e "s/int element\b/$primitive element/g" \
+        -e "s/int \(previous\|temp\) =/$primitive \1 =/" \
+        -e "s/int\[\] \(values\|array\)\b/$primitive[] \1/" \
+        -e "s/new int\[\(capacity\|size\)\]/new $primitive[\1]/" \
+        -e "s/Iterable<Integer>/Iterable<$type>/" \
+        -e "s/IntDoublingList/${type}DoublingList/g" \
+        -e "s/\b\(get\|set\|add\|remove\|next\)Int\b/\1$type/g" \
+        -e "s/toIntArray/to${type}Array/g" \
+        -e "s/OfInt\b/Of$type/g" \
+        IntDoublingList.java > "${type}DoublingList.java"
+}
+
+generate Long long
+generate Double double